@@ -0,0 +1,78 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.ToDoListManagerApplication;
+import com.softserve.todolistmanager.search.SearchIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Properties;
+
+/**
+ * Boots the application against an in-memory H2 database and seeds it with synthetic data
+ * scaled by the {@code users}, {@code todosPerUser} and {@code tasksPerTodo} parameters.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    @Param({"100"})
+    public int users;
+
+    @Param({"10"})
+    public int todosPerUser;
+
+    @Param({"50"})
+    public int tasksPerTodo;
+
+    public ConfigurableApplicationContext context;
+    public SyntheticData data;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ToDoListManagerApplication.class)
+                .run(arguments());
+        data = new SyntheticData(context.getBean(JdbcTemplate.class), users, todosPerUser, tasksPerTodo);
+        data.seed();
+        data.verify();
+        context.getBean(SearchIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    protected String[] arguments() {
+        return properties().entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+
+    protected Properties properties() {
+        Properties properties = new Properties();
+        properties.setProperty("server.port", "0");
+        properties.setProperty("spring.datasource.url",
+                "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.setProperty("spring.datasource.username", "sa");
+        properties.setProperty("spring.datasource.password", "");
+        properties.setProperty("todolist.flyway.migrate-on-startup", "true");
+        properties.setProperty("spring.jpa.database", "H2");
+        properties.setProperty("spring.jpa.show-sql", "false");
+        properties.setProperty("spring.devtools.restart.enabled", "false");
+        properties.setProperty("logging.level.root", "WARN");
+        properties.setProperty("logging.level.org.springframework.transaction.interceptor", "WARN");
+        return properties;
+    }
+}
@@ -0,0 +1,107 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.config.DbAdmission;
+import com.softserve.todolistmanager.config.VirtualThreads;
+import com.softserve.todolistmanager.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A burst of {@code requests} concurrent requests, each spending {@code ioMillis} in blocking I/O that
+ * holds no connection (a slow client, a remote call) and then reading a todo's tasks through the service
+ * layer under a {@link DbAdmission} permit sized to the connection pool. "platform" runs the burst on
+ * 200 threads, Tomcat's default maximum, "virtual" on a virtual thread per request; on a JVM without
+ * virtual threads the "virtual" run falls back to the platform pool and says so.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @State(Scope.Benchmark)
+    public static class Execution {
+        @Param({"platform", "virtual"})
+        public String mode;
+
+        @Param({"2000"})
+        public int requests;
+
+        @Param({"20"})
+        public int ioMillis;
+
+        ExecutorService executor;
+        DbAdmission admission;
+        TaskService taskService;
+        ApplicationState app;
+
+        Logger logger = LoggerFactory.getLogger(ExecutionModeBenchmark.class);
+
+        @Setup(Level.Trial)
+        public void setUp(ApplicationState app) {
+            this.app = app;
+            taskService = app.bean(TaskService.class);
+            admission = new DbAdmission(app.bean(HikariDataSource.class).getMaximumPoolSize());
+            executor = "virtual".equals(mode)
+                    ? VirtualThreads.newPerTaskExecutor().orElseGet(() -> {
+                        logger.warn("Virtual threads need Java 21 or later, measuring the platform pool instead");
+                        return Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+                    })
+                    : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+
+        int request() throws InterruptedException {
+            Thread.sleep(ioMillis);
+            int user = ThreadLocalRandom.current().nextInt(app.users);
+            int todo = ThreadLocalRandom.current().nextInt(app.todosPerUser);
+            admission.tryEnter(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            try {
+                return taskService.getByTodoId(app.data.todoId(user, todo)).size();
+            } finally {
+                admission.exit();
+            }
+        }
+    }
+
+    @Benchmark
+    public long burst(Execution execution) throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(execution.requests);
+        for (int i = 0; i < execution.requests; i++) {
+            results.add(execution.executor.submit(execution::request));
+        }
+        long tasks = 0;
+        for (Future<Integer> result : results) {
+            tasks += result.get();
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,100 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.model.Task;
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.repository.ToDoRepository;
+import com.softserve.todolistmanager.security.PrincipalCache;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.softserve.todolistmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmarks {
+
+    @State(Scope.Thread)
+    public static class Services {
+        UserDetailsServiceImpl userDetailsService;
+        PrincipalCache principalCache;
+        ToDoRepository toDoRepository;
+        TaskService taskService;
+        ApplicationState app;
+
+        @Setup(Level.Trial)
+        public void setUp(ApplicationState app) {
+            this.app = app;
+            userDetailsService = app.bean(UserDetailsServiceImpl.class);
+            principalCache = app.bean(PrincipalCache.class);
+            toDoRepository = app.bean(ToDoRepository.class);
+            taskService = app.bean(TaskService.class);
+        }
+
+        int randomUser() {
+            return ThreadLocalRandom.current().nextInt(app.users);
+        }
+
+        int randomTodo() {
+            return ThreadLocalRandom.current().nextInt(app.todosPerUser);
+        }
+
+        int randomTask() {
+            return ThreadLocalRandom.current().nextInt(app.tasksPerTodo);
+        }
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsernameCached(Services services) {
+        return services.userDetailsService.loadUserByUsername(services.app.data.email(services.randomUser()));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsernameUncached(Services services) {
+        String email = services.app.data.email(services.randomUser());
+        services.principalCache.evict(email);
+        return services.userDetailsService.loadUserByUsername(email);
+    }
+
+    @Benchmark
+    public List<ToDo> todoRepositoryGetByUserId(Services services) {
+        return services.toDoRepository.getByUserId(services.app.data.userId(services.randomUser()));
+    }
+
+    @Benchmark
+    public Task taskServiceCreate(Services services) {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setName("Benchmark task");
+        taskDto.setPriority("MEDIUM");
+        taskDto.setTodoId(services.app.data.todoId(services.randomUser(), services.randomTodo()));
+        return services.taskService.create(taskDto);
+    }
+
+    @Benchmark
+    public Task taskServiceUpdate(Services services) {
+        int user = services.randomUser();
+        int todo = services.randomTodo();
+        int task = services.randomTask();
+        long taskId = services.app.data.taskId(user, todo, task);
+        TaskDto taskDto = new TaskDto(taskId, "Updated task " + task, "HIGH", services.app.data.todoId(user, todo),
+                task % 4 + 1, services.taskService.readById(taskId).getVersion());
+        return services.taskService.update(taskDto);
+    }
+}
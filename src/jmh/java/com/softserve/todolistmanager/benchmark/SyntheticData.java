@@ -0,0 +1,143 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.model.Priority;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds users, todos, tasks and collaborators on top of the demo data migration. Ids start at {@link #FIRST_ID}
+ * so that sequence-generated ids of the create benchmarks never collide with seeded rows. The rows the services
+ * keep alongside (priority ranks, task counters, todo revisions) are derived in bulk and then checked by
+ * {@link #verify()}, so that a benchmark never measures data the application could not have written.
+ */
+public class SyntheticData {
+    public static final long FIRST_ID = 1_000_000L;
+    private static final int BATCH = 1_000;
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final String INSERT_TASK =
+            "insert into tasks (id, name, priority, priority_rank, state_id, todo_id) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int users;
+    private final int todosPerUser;
+    private final int tasksPerTodo;
+
+    public SyntheticData(JdbcTemplate jdbcTemplate, int users, int todosPerUser, int tasksPerTodo) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.users = users;
+        this.todosPerUser = todosPerUser;
+        this.tasksPerTodo = tasksPerTodo;
+    }
+
+    public void seed() {
+        String password = jdbcTemplate.queryForObject("select password from users where id = 2", String.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            rows.add(new Object[]{userId(u), "Bench", "User", email(u), password, 2L});
+            rows = flush(rows, "insert into users (id, first_name, last_name, email, password, role_id) values (?, ?, ?, ?, ?, ?)");
+        }
+        flushAll(rows, "insert into users (id, first_name, last_name, email, password, role_id) values (?, ?, ?, ?, ?, ?)");
+
+        for (int u = 0; u < users; u++) {
+            for (int t = 0; t < todosPerUser; t++) {
+                rows.add(new Object[]{todoId(u, t), "Bench To-Do " + u + " #" + t, now, userId(u)});
+                rows = flush(rows, "insert into todos (id, title, created_at, owner_id) values (?, ?, ?, ?)");
+            }
+        }
+        flushAll(rows, "insert into todos (id, title, created_at, owner_id) values (?, ?, ?, ?)");
+        jdbcTemplate.update("insert into todo_revisions (todo_id, revision, modified_at) " +
+                "select id, nextval('todo_revision_seq'), created_at from todos where id >= ?", FIRST_ID);
+
+        if (users > 1) {
+            for (int u = 0; u < users; u++) {
+                for (int t = 0; t < todosPerUser; t++) {
+                    rows.add(new Object[]{todoId(u, t), userId((u + 1) % users)});
+                    rows = flush(rows, "insert into todo_collaborator (todo_id, collaborator_id) values (?, ?)");
+                }
+            }
+            flushAll(rows, "insert into todo_collaborator (todo_id, collaborator_id) values (?, ?)");
+        }
+
+        long taskId = FIRST_ID;
+        for (int u = 0; u < users; u++) {
+            for (int t = 0; t < todosPerUser; t++) {
+                for (int k = 0; k < tasksPerTodo; k++) {
+                    // the rank as Task.setPriority writes it
+                    Priority priority = PRIORITIES[k % PRIORITIES.length];
+                    rows.add(new Object[]{taskId++, "Task " + k, priority.name(), priority.ordinal(),
+                            (long) (k % 4 + 1), todoId(u, t)});
+                    rows = flush(rows, INSERT_TASK);
+                }
+            }
+        }
+        flushAll(rows, INSERT_TASK);
+        jdbcTemplate.update("insert into task_counters (todo_id, owner_id, state_id, priority, task_count) " +
+                "select t.todo_id, d.owner_id, t.state_id, t.priority, count(*) from tasks t " +
+                "inner join todos d on d.id = t.todo_id where t.todo_id >= ? " +
+                "group by t.todo_id, d.owner_id, t.state_id, t.priority", FIRST_ID);
+    }
+
+    /**
+     * Fails unless every seeded todo has its revision, every (todo, state, priority) of the seeded tasks has a
+     * counter holding its count and owner, and every seeded task has the priority rank of its priority.
+     */
+    public void verify() {
+        check("todos without a revision", "select count(*) from todos d where d.id >= ? and not exists " +
+                "(select 1 from todo_revisions r where r.todo_id = d.id)");
+        check("task groups without a counter", "select count(*) from tasks t where t.todo_id >= ? and not exists " +
+                "(select 1 from task_counters c where c.todo_id = t.todo_id and c.state_id = t.state_id " +
+                "and c.priority = t.priority)");
+        check("counters off their tasks", "select count(*) from task_counters c where c.todo_id >= ? " +
+                "and (c.task_count <> (select count(*) from tasks t where t.todo_id = c.todo_id " +
+                "and t.state_id = c.state_id and t.priority = c.priority) " +
+                "or c.owner_id <> (select d.owner_id from todos d where d.id = c.todo_id))");
+        for (Priority priority : PRIORITIES) {
+            check(priority + " tasks of another rank", "select count(*) from tasks where id >= ? and priority = '"
+                    + priority.name() + "' and priority_rank <> " + priority.ordinal());
+        }
+    }
+
+    private void check(String what, String countSql) {
+        Long count = jdbcTemplate.queryForObject(countSql, Long.class, FIRST_ID);
+        if (count == null || count != 0) {
+            throw new IllegalStateException("Synthetic data has " + count + " " + what);
+        }
+    }
+
+    public long userId(int index) {
+        return FIRST_ID + index;
+    }
+
+    public String email(int index) {
+        return "user" + index + "@bench.io";
+    }
+
+    public long todoId(int userIndex, int todoIndex) {
+        return FIRST_ID + (long) userIndex * todosPerUser + todoIndex;
+    }
+
+    public long taskId(int userIndex, int todoIndex, int taskIndex) {
+        return FIRST_ID + ((long) userIndex * todosPerUser + todoIndex) * tasksPerTodo + taskIndex;
+    }
+
+    private List<Object[]> flush(List<Object[]> rows, String sql) {
+        if (rows.size() < BATCH) {
+            return rows;
+        }
+        jdbcTemplate.batchUpdate(sql, rows);
+        return new ArrayList<>();
+    }
+
+    private void flushAll(List<Object[]> rows, String sql) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
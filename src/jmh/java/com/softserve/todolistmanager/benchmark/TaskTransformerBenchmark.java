@@ -0,0 +1,57 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.dto.TaskTransformer;
+import com.softserve.todolistmanager.model.Priority;
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.model.Task;
+import com.softserve.todolistmanager.model.ToDo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+public class TaskTransformerBenchmark {
+    private Task task;
+    private TaskDto taskDto;
+    private ToDo todo;
+    private State state;
+
+    @Setup
+    public void setUp() {
+        todo = new ToDo();
+        todo.setId(1);
+        state = new State();
+        state.setName("New");
+        task = new Task();
+        task.setId(1);
+        task.setName("Task #1");
+        task.setPriority(Priority.HIGH);
+        task.setTodo(todo);
+        task.setState(state);
+        taskDto = new TaskDto(1, "Task #1", "HIGH", 1, 1, 0L);
+    }
+
+    @Benchmark
+    public TaskDto convertToDto() {
+        return TaskTransformer.convertToDto(task);
+    }
+
+    @Benchmark
+    public Task convertToEntity() {
+        return TaskTransformer.convertToEntity(taskDto, todo, state);
+    }
+}
@@ -0,0 +1,67 @@
+package com.softserve.todolistmanager.benchmark;
+
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Full {@code GET /todos/{id}/tasks} round trip: security filters, permission checks, queries and
+ * the Thymeleaf render of todo-tasks.html, as seen by the owner of a random seeded todo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToDoPageBenchmark {
+
+    @State(Scope.Thread)
+    public static class Page {
+        MockMvc mockMvc;
+        UserDetails[] owners;
+        ApplicationState app;
+
+        @Setup(Level.Trial)
+        public void setUp(ApplicationState app) {
+            this.app = app;
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) app.context)
+                    .apply(springSecurity())
+                    .build();
+            UserDetailsServiceImpl userDetailsService = app.bean(UserDetailsServiceImpl.class);
+            owners = new UserDetails[app.users];
+            for (int u = 0; u < app.users; u++) {
+                owners[u] = userDetailsService.loadUserByUsername(app.data.email(u));
+            }
+        }
+    }
+
+    @Benchmark
+    public MvcResult readToDo(Page page) throws Exception {
+        int owner = ThreadLocalRandom.current().nextInt(page.app.users);
+        int todo = ThreadLocalRandom.current().nextInt(page.app.todosPerUser);
+        return page.mockMvc.perform(get("/todos/{id}/tasks", page.app.data.todoId(owner, todo))
+                        .with(user(page.owners[owner])))
+                .andReturn();
+    }
+}
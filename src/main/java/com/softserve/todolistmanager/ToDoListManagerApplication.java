@@ -2,8 +2,10 @@ package com.softserve.todolistmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.retry.annotation.EnableRetry;
 
 @SpringBootApplication
+@EnableRetry
 public class ToDoListManagerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,49 @@
+package com.softserve.todolistmanager.audit;
+
+import java.time.LocalDateTime;
+
+public class AuditEvent {
+    public enum Action {
+        CREATE, UPDATE, DELETE
+    }
+
+    private final LocalDateTime occurredAt;
+    private final Long actorId;
+    private final Action action;
+    private final String entity;
+    private final long entityId;
+    private final Long todoId;
+
+    public AuditEvent(LocalDateTime occurredAt, Long actorId, Action action, String entity, long entityId, Long todoId) {
+        this.occurredAt = occurredAt;
+        this.actorId = actorId;
+        this.action = action;
+        this.entity = entity;
+        this.entityId = entityId;
+        this.todoId = todoId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+
+    public Long getTodoId() {
+        return todoId;
+    }
+}
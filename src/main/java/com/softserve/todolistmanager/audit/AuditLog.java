@@ -0,0 +1,182 @@
+package com.softserve.todolistmanager.audit;
+
+import com.softserve.todolistmanager.security.UserDetailsSecurity;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only audit trail of the mutations made through the services. Recording an event costs the
+ * request thread one enqueue on a bounded lock-free queue, after its transaction commits; a single
+ * background worker drains the queue into batched inserts of audit_log. When the queue is full the
+ * producer waits up to {@code todolist.audit.offer-timeout} for the worker before dropping the event,
+ * and whatever is still queued is written on shutdown. Events lost either way, or in a batch the database
+ * rejects, are counted by {@code todolist.audit.dropped}.
+ */
+@Component
+public class AuditLog {
+    public static final String USER = "user";
+    public static final String TODO = "todo";
+    public static final String TASK = "task";
+    public static final String COLLABORATOR = "collaborator";
+
+    private static final String INSERT = "insert into audit_log (occurred_at, actor_id, action, entity, entity_id, todo_id) "
+            + "values (?, ?, ?, ?, ?, ?)";
+    private static final long FULL_QUEUE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final Queue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    @Autowired
+    public AuditLog(JdbcTemplate jdbcTemplate, UserDetailsServiceImpl userDetailsService, MeterRegistry registry,
+                    @Value("${todolist.audit.capacity:10000}") int capacity,
+                    @Value("${todolist.audit.batch-size:200}") int batchSize,
+                    @Value("${todolist.audit.flush-interval:PT0.2S}") Duration flushInterval,
+                    @Value("${todolist.audit.offer-timeout:PT1S}") Duration offerTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userDetailsService = userDetailsService;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.dropped = Counter.builder("todolist.audit.dropped").register(registry);
+        Gauge.builder("todolist.audit.queued", size, AtomicInteger::get).register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor.execute(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(worker);
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Audit log writer did not stop in time, {} events still queued", size.get());
+        }
+    }
+
+    public void record(AuditEvent.Action action, String entity, long entityId, Long todoId) {
+        UserDetailsSecurity actor = userDetailsService.getCurrentPrincipal();
+        AuditEvent event = new AuditEvent(LocalDateTime.now(), actor == null ? null : actor.getId(),
+                action, entity, entityId, todoId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     */
+    public void flush() {
+        while (drain() > 0) {
+            // keep writing until the queue is empty
+        }
+    }
+
+    private void enqueue(AuditEvent event) {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            LockSupport.unpark(worker);
+            if (!running || System.nanoTime() - deadline >= 0) {
+                dropped.increment();
+                logger.warn("Audit queue is full, dropped {} {} {}", event.getAction(), event.getEntity(), event.getEntityId());
+                return;
+            }
+            LockSupport.parkNanos(this, FULL_QUEUE_PARK_NANOS);
+        }
+        queue.offer(event);
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void run() {
+        worker = Thread.currentThread();
+        while (running) {
+            if (drain() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        flush();
+    }
+
+    private int drain() {
+        drainLock.lock();
+        List<Object[]> batch = new ArrayList<>(Math.min(size.get(), batchSize));
+        try {
+            AuditEvent event;
+            while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(new Object[]{Timestamp.valueOf(event.getOccurredAt()), event.getActorId(),
+                        event.getAction().name(), event.getEntity(), event.getEntityId(), event.getTodoId()});
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT, batch);
+            }
+            return batch.size();
+        } catch (RuntimeException e) {
+            // the batch is not retried, so that a row the database rejects cannot hold up the queue behind
+            // it; catching everything keeps the single worker alive
+            dropped.increment(batch.size());
+            logger.error("Could not write audit events, dropped {}", batch.size(), e);
+            return 0;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+}
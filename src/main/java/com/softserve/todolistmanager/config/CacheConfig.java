@@ -0,0 +1,87 @@
+package com.softserve.todolistmanager.config;
+
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.model.User;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Second-level cache for what nearly every request looks up again: users (principals, owners), todos and
+ * the role and state reference data, plus the query cache. The regions live in this instance only, so in
+ * token session mode, where requests are spread over instances, users, todos and queries are not cached
+ * and only the reference data is. The service mutators evict what they change explicitly through
+ * {@link com.softserve.todolistmanager.service.impl.EntityCache}. Every region is an Ehcache heap cache bounded
+ * by {@code todolist.cache.<region>.max-entries} and {@code todolist.cache.<region>.ttl}; a region the
+ * mappings ask for that is not configured here fails startup rather than growing unbounded. Hit and miss
+ * counts are published from the Hibernate statistics as {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.query.cache.requests}.
+ */
+@Configuration
+public class CacheConfig {
+    private static final String QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        ConfigurationBuilder configuration = ConfigurationBuilder.newConfigurationBuilder();
+        configuration = withRegion(configuration, environment, "users", "users", 10000, "PT10M");
+        configuration = withRegion(configuration, environment, "todos", "todos", 10000, "PT10M");
+        configuration = withRegion(configuration, environment, "roles", "roles", 100, "PT1H");
+        configuration = withRegion(configuration, environment, "states", "states", 100, "PT1H");
+        configuration = withRegion(configuration, environment, QUERY_RESULTS, "queries", 10000, "PT10M");
+        // a query result is only as fresh as these timestamps, so they are never expired
+        configuration = configuration.withCache(UPDATE_TIMESTAMPS, CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1000)));
+        EhcacheCachingProvider provider =
+                (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        // a manager of its own per application context, so that contexts sharing a JVM do not share entries
+        return provider.getCacheManager(URI.create("todolist:" + UUID.randomUUID()), configuration.build());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager secondLevelCacheManager, @Value("${todolist.security.session-mode:session}") String sessionMode) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // token sessions let requests of one user land on any instance, and nothing invalidates these
+            // regions across instances; a copy of a versioned row left behind on one of them would turn
+            // every edit routed there into an optimistic-lock conflict until it expired
+            if ("token".equals(sessionMode)) {
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            } else {
+                properties.put(classCache(User.class), "read-write,users");
+                properties.put(classCache(ToDo.class), "read-write,todos");
+            }
+        };
+    }
+
+    private static String classCache(Class<?> entity) {
+        return AvailableSettings.CLASS_CACHE_PREFIX + '.' + entity.getName();
+    }
+
+    private static ConfigurationBuilder withRegion(ConfigurationBuilder configuration, Environment environment,
+                                                   String region, String key, long maxEntries, String ttl) {
+        String prefix = "todolist.cache." + key;
+        return configuration.withCache(region, CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(
+                        environment.getProperty(prefix + ".max-entries", Long.class, maxEntries)))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(
+                        environment.getProperty(prefix + ".ttl", Duration.class, Duration.parse(ttl)))));
+    }
+}
@@ -0,0 +1,39 @@
+package com.softserve.todolistmanager.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fair semaphore with one permit per database connection. With open-in-view a request that touches
+ * the database keeps its connection until it completes, so admitting more of them than there are
+ * connections only moves the queue into the pool, where waiters time out in no particular order.
+ */
+public class DbAdmission {
+    private final Semaphore permits;
+    private final int size;
+
+    public DbAdmission(int size) {
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+    }
+
+    public boolean tryEnter(long timeout, TimeUnit unit) throws InterruptedException {
+        return permits.tryAcquire(timeout, unit);
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getInUse() {
+        return size - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+}
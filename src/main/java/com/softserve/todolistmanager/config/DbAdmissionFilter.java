@@ -0,0 +1,64 @@
+package com.softserve.todolistmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets a request through only once it holds a {@link DbAdmission} permit, and answers 503 with a
+ * Retry-After when none frees up within the timeout. Event streams are let through as they are: they
+ * hand their connection back before streaming and would otherwise hold a permit for as long as they
+ * stay open.
+ */
+public class DbAdmissionFilter extends OncePerRequestFilter {
+    private static final RequestMatcher EVENT_STREAM = new AntPathRequestMatcher("/todos/*/events");
+
+    private final DbAdmission admission;
+    private final long timeoutNanos;
+    private final Counter rejected;
+
+    public DbAdmissionFilter(DbAdmission admission, Duration timeout, Counter rejected) {
+        this.admission = admission;
+        this.timeoutNanos = timeout.toNanos();
+        this.rejected = rejected;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return EVENT_STREAM.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = admission.tryEnter(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admission.exit();
+        }
+    }
+}
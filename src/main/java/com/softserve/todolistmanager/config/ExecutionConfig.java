@@ -0,0 +1,73 @@
+package com.softserve.todolistmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Opt-in virtual-thread execution ({@code todolist.execution.virtual-threads=true}). Tomcat then hands
+ * every request, and the service calls it makes, to a virtual thread of its own when the JVM has them,
+ * and keeps its platform-thread pool on older JVMs. Blocking JDBC no longer queues behind a bounded
+ * request pool in that mode, so requests are admitted through {@link DbAdmission}, sized to the
+ * connection pool unless {@code todolist.execution.db-permits} says otherwise.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todolist.execution.virtual-threads", havingValue = "true")
+public class ExecutionConfig {
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    Logger logger = LoggerFactory.getLogger(ExecutionConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadRequests() {
+        return protocolHandler -> VirtualThreads.newPerTaskExecutor().ifPresentOrElse(executor -> {
+            protocolHandler.setExecutor(executor);
+            logger.info("Requests run on virtual threads");
+        }, () -> logger.warn("Virtual threads need Java 21 or later, requests keep running on the platform-thread pool"));
+    }
+
+    @Bean
+    public DbAdmission dbAdmission(DataSource dataSource, MeterRegistry registry,
+                                   @Value("${todolist.execution.db-permits:0}") int permits) throws SQLException {
+        DbAdmission admission = new DbAdmission(permits > 0 ? permits : getPoolSize(dataSource));
+        Gauge.builder("todolist.db.admission.in-use", admission, DbAdmission::getInUse).register(registry);
+        Gauge.builder("todolist.db.admission.waiting", admission, DbAdmission::getWaiting).register(registry);
+        return admission;
+    }
+
+    @Bean
+    public FilterRegistrationBean<DbAdmissionFilter> dbAdmissionFilter(
+            DbAdmission admission, MeterRegistry registry,
+            @Value("${todolist.execution.db-admission-timeout:PT2S}") Duration timeout) {
+        FilterRegistrationBean<DbAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new DbAdmissionFilter(admission, timeout, Counter.builder("todolist.db.admission.rejected").register(registry)));
+        registration.setName("dbAdmissionFilter");
+        // the controllers that read or write the database; static resources, the login form and its
+        // processing, whose password hashing is bounded by its own pool, stay outside
+        registration.addUrlPatterns("/", "/home", "/registration", "/users/*", "/todos/*", "/tasks/*",
+                "/search", "/api/*");
+        // ahead of security, whose user and permission lookups already take a connection
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    private static int getPoolSize(DataSource dataSource) throws SQLException {
+        return dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.softserve.todolistmanager.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Startup only validates the applied migrations against db/migration (plus the PostgreSQL-only indexes in
+ * db/postgresql), so a restart never changes the schema by itself. Applying migrations is a deliberate step:
+ * start once with {@code todolist.flyway.migrate-on-startup=true} against a new, empty database or after
+ * deploying a release that adds migrations.
+ * <p>
+ * A database created before migrations existed holds tables but no migration history. It is never changed
+ * automatically: startup stops instead, and its data has to be exported and the application pointed at an
+ * empty database before migrating.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${todolist.flyway.migrate-on-startup:false}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (flyway.info().applied().length == 0 && hasPreFlywaySchema(flyway)) {
+                throw new IllegalStateException("The database holds tables created before migrations "
+                        + "but no migration history; export its data and start against an empty database");
+            }
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                flyway.validate();
+            }
+        };
+    }
+
+    private boolean hasPreFlywaySchema(Flyway flyway) {
+        DataSource dataSource = flyway.getConfiguration().getDataSource();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData()
+                     .getTables(connection.getCatalog(), connection.getSchema(), "todos", new String[]{"TABLE"})) {
+            return tables.next();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not inspect the schema before migrating", e);
+        }
+    }
+}
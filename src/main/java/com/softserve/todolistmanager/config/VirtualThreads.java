@@ -0,0 +1,23 @@
+package com.softserve.todolistmanager.config;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual threads without requiring Java 21 to build: the executor factory is looked up reflectively,
+ * so the same jar still starts on Java 11 and simply reports them as unavailable.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static Optional<ExecutorService> newPerTaskExecutor() {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+}
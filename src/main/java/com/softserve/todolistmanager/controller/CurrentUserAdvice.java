@@ -0,0 +1,22 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.security.CurrentUser;
+import com.softserve.todolistmanager.security.UserDetailsSecurity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+@ControllerAdvice
+public class CurrentUserAdvice {
+    private final CurrentUser currentUser;
+
+    @Autowired
+    public CurrentUserAdvice(CurrentUser currentUser) {
+        this.currentUser = currentUser;
+    }
+
+    @ModelAttribute("owner")
+    public UserDetailsSecurity owner() {
+        return currentUser.getPrincipal();
+    }
+}
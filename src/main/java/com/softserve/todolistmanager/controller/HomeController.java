@@ -1,30 +1,39 @@
 package com.softserve.todolistmanager.controller;
 
-import com.softserve.todolistmanager.repository.UserRepository;
-import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.softserve.todolistmanager.security.CurrentUser;
+import com.softserve.todolistmanager.service.TaskStatsService;
 import com.softserve.todolistmanager.service.UserService;
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 public class HomeController {
     private final UserService userService;
-    private final UserRepository userRepository;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final TaskStatsService taskStatsService;
+    private final CurrentUser currentUser;
 
     @Autowired
-    public HomeController(UserService userService, UserRepository userRepository, UserDetailsServiceImpl userDetailsService) {
+    public HomeController(UserService userService, TaskStatsService taskStatsService, CurrentUser currentUser) {
         this.userService = userService;
-        this.userRepository = userRepository;
-        this.userDetailsService = userDetailsService;
+        this.taskStatsService = taskStatsService;
+        this.currentUser = currentUser;
     }
 
     @GetMapping({"/", "home"})
-    public String home(Model model) {
-        model.addAttribute("users", userService.getAll());
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
+    public String home(Model model,
+                       @RequestParam(value = "after", required = false) Long after,
+                       @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                       @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction) {
+        KeysetPage<User> page = userService.getPage(after, size, direction);
+        model.addAttribute("users", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("stats", taskStatsService.getByUserId(currentUser.getPrincipal().getId()));
         return "home";
     }
 }
@@ -1,8 +1,6 @@
 package com.softserve.todolistmanager.controller;
 
 import com.softserve.todolistmanager.model.User;
-import com.softserve.todolistmanager.repository.UserRepository;
-import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
 import com.softserve.todolistmanager.security.UserRegistrationService;
 import com.softserve.todolistmanager.security.UserValidator;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,15 +16,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 public class LoginController {
     private final UserValidator userValidator;
     private final UserRegistrationService userRegistrationService;
-    private final UserDetailsServiceImpl userDetailsService;
-    private final UserRepository userRepository;
 
     @Autowired
-    public LoginController(UserValidator userValidator, UserRegistrationService userRegistrationService, UserDetailsServiceImpl userDetailsService, UserRepository userRepository) {
+    public LoginController(UserValidator userValidator, UserRegistrationService userRegistrationService) {
         this.userValidator = userValidator;
         this.userRegistrationService = userRegistrationService;
-        this.userDetailsService = userDetailsService;
-        this.userRepository = userRepository;
     }
 
     @GetMapping("/form-login")
@@ -37,7 +31,6 @@ public class LoginController {
     @GetMapping("/registration")
     public String registrationForm(Model model) {
         model.addAttribute("user", new User());
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "registration";
     }
 
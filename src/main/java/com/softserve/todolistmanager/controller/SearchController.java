@@ -0,0 +1,38 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.SearchHit;
+import com.softserve.todolistmanager.security.CurrentUser;
+import com.softserve.todolistmanager.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Controller
+@RequestMapping("/search")
+public class SearchController {
+    private final SearchService searchService;
+    private final CurrentUser currentUser;
+
+    @Autowired
+    public SearchController(SearchService searchService, CurrentUser currentUser) {
+        this.searchService = searchService;
+        this.currentUser = currentUser;
+    }
+
+    @GetMapping
+    public String search(Model model,
+                         @RequestParam(value = "q", defaultValue = "") String query,
+                         @RequestParam(value = "after", required = false) String after,
+                         @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size) {
+        Long userId = currentUser.isAdmin() ? null : currentUser.getPrincipal().getId();
+        KeysetPage<SearchHit> page = searchService.search(query, userId, after, size);
+        model.addAttribute("query", query);
+        model.addAttribute("hits", page.getItems());
+        model.addAttribute("page", page);
+        return "search";
+    }
+}
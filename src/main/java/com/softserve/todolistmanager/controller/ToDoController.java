@@ -1,55 +1,79 @@
 package com.softserve.todolistmanager.controller;
 
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.RevisionStamp;
+import com.softserve.todolistmanager.dto.TaskFilter;
+import com.softserve.todolistmanager.events.ToDoEventHub;
+import com.softserve.todolistmanager.model.Priority;
 import com.softserve.todolistmanager.model.Task;
 import com.softserve.todolistmanager.model.ToDo;
-import com.softserve.todolistmanager.model.User;
-import com.softserve.todolistmanager.repository.UserRepository;
-import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.softserve.todolistmanager.security.CurrentUser;
+import com.softserve.todolistmanager.service.StateService;
 import com.softserve.todolistmanager.service.TaskService;
 import com.softserve.todolistmanager.service.ToDoService;
 import com.softserve.todolistmanager.service.UserService;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.persistence.EntityManager;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Controller
 @RequestMapping("/todos")
 public class ToDoController {
+    private static final Set<String> PAGING_PARAMETERS = Set.of("after", "size", "direction");
 
     private final ToDoService todoService;
     private final TaskService taskService;
     private final UserService userService;
-    private final UserRepository userRepository;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final StateService stateService;
+    private final CurrentUser currentUser;
+    private final ToDoEventHub eventHub;
+    private final EntityManager entityManager;
 
     @Autowired
-    public ToDoController(ToDoService todoService, TaskService taskService, UserService userService, UserRepository userRepository, UserDetailsServiceImpl userDetailsService) {
+    public ToDoController(ToDoService todoService, TaskService taskService, UserService userService,
+                          StateService stateService, CurrentUser currentUser,
+                          ToDoEventHub eventHub, EntityManager entityManager) {
         this.todoService = todoService;
         this.taskService = taskService;
         this.userService = userService;
-        this.userRepository = userRepository;
-        this.userDetailsService = userDetailsService;
+        this.stateService = stateService;
+        this.currentUser = currentUser;
+        this.eventHub = eventHub;
+        this.entityManager = entityManager;
     }
 
     @GetMapping("/create/users/{owner_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#ownerId).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#ownerId, 'User', 'write')")
     public String create(@PathVariable("owner_id") long ownerId, Model model) {
         model.addAttribute("todo", new ToDo());
         model.addAttribute("ownerId", ownerId);
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "create-todo";
     }
 
     @PostMapping("/create/users/{owner_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#ownerId).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#ownerId, 'User', 'write')")
     public String create(@PathVariable("owner_id") long ownerId, @Validated @ModelAttribute("todo") ToDo toDo, BindingResult result) {
         if (result.hasErrors()) {
             return "create-todo";
@@ -60,30 +84,46 @@ public class ToDoController {
     }
 
     @GetMapping("/{id}/tasks")
-    @PreAuthorize("hasAuthority('ADMIN') or @toDoServiceImpl.readById(#id).owner.email.equals(authentication.name)" +
-            "or @toDoServiceImpl.readById(#id).collaborators.contains(@userRepository.findByEmail(authentication.name))")
-    public String read(@PathVariable long id, Model model) {
-        ToDo toDo = todoService.readById(id);
-        List<User> users = userService.getAll().stream()
-                .filter(user -> user.getId() != toDo.getOwner().getId())
-                .collect(Collectors.toList());
-        model.addAttribute("todo", toDo);
-        model.addAttribute("tasks", taskService.getByTodoId(id));
-        model.addAttribute("users", users);
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    public String read(@PathVariable long id, Model model,
+                       @RequestParam(value = "after", required = false) String after,
+                       @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                       @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+                       @ModelAttribute("filter") TaskFilter filter, Sort sort,
+                       WebRequest request, HttpServletResponse response) {
+        if (isNotModified(request, response, todoService.getRevision(id))) {
+            return null;
+        }
+        model.addAttribute("todo", todoService.readByIdWithCollaborators(id));
+        KeysetPage<Task> page = taskService.getPageByTodoId(id, filter, sort, after, size, direction);
+        model.addAttribute("tasks", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("pageUrl", getPageUrl("/todos/" + id + "/tasks", request));
+        model.addAttribute("priorities", Priority.values());
+        model.addAttribute("states", stateService.getAll());
+        model.addAttribute("users", userService.getCollaboratorCandidates(id));
         return "todo-tasks";
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    @ResponseBody
+    public SseEmitter events(@PathVariable long id) {
+        // the stream outlives this request: hand back the connection the permission check used rather
+        // than keep it in the open-in-view session until the client goes away
+        entityManager.unwrap(Session.class).disconnect();
+        return eventHub.subscribe(id);
+    }
+
     @GetMapping("/{todo_id}/update/users/{owner_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#ownerId).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
     public String update(@PathVariable("todo_id") long todoId, @PathVariable("owner_id") long ownerId, Model model) {
         model.addAttribute("todo", todoService.readById(todoId));
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "update-todo";
     }
 
     @PostMapping("/{todo_id}/update/users/{owner_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#ownerId).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
     public String update(@PathVariable("todo_id") long todoId, @PathVariable("owner_id") long ownerId,
                          @Validated @ModelAttribute("todo") ToDo todo, BindingResult result) {
         if (result.hasErrors()) {
@@ -95,40 +135,64 @@ public class ToDoController {
     }
 
     @GetMapping("/{todo_id}/delete/users/{owner_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#ownerId).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
     public String delete(@PathVariable("todo_id") long todoId, @PathVariable("owner_id") long ownerId) {
         todoService.delete(todoId);
         return "redirect:/todos/all/users/" + ownerId;
     }
 
     @GetMapping("/all/users/{user_id}")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#userId).email.equals(authentication.name)")
-    public String getAll(@PathVariable("user_id") long userId, Model model) {
-        model.addAttribute("todos", todoService.getByUserId(userId));
+    @PreAuthorize("hasPermission(#userId, 'User', 'read')")
+    public String getAll(@PathVariable("user_id") long userId, Model model,
+                         @RequestParam(value = "after", required = false) Long after,
+                         @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                         @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+                         WebRequest request, HttpServletResponse response) {
+        if (isNotModified(request, response, todoService.getRevisionByUserId(userId))) {
+            return null;
+        }
+        KeysetPage<ToDo> page = todoService.getPageByUserId(userId, after, size, direction);
+        model.addAttribute("todos", page.getItems());
+        model.addAttribute("page", page);
         model.addAttribute("user", userService.readById(userId));
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "todos-user";
     }
 
     @GetMapping("/{id}/add")
-    @PreAuthorize("hasAuthority('ADMIN') or @toDoServiceImpl.readById(#id).owner.email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
     public String addCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.add(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
+        todoService.addCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
 
     @GetMapping("/{id}/remove")
-    @PreAuthorize("hasAuthority('ADMIN') or @toDoServiceImpl.readById(#id).owner.email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
     public String removeCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.remove(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
+        todoService.removeCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
+
+    private boolean isNotModified(WebRequest request, HttpServletResponse response, RevisionStamp revision) {
+        String etag = revision.toETag() + "-" + currentUser.getPrincipal().getId()
+                + "-" + DigestUtils.md5DigestAsHex(getParameters(request).toString().getBytes(StandardCharsets.UTF_8));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return request.checkNotModified(etag, revision.getModifiedAtMillis());
+    }
+
+    // the page url with every parameter except the paging ones, for the pager links to keep filter and sort
+    private static String getPageUrl(String path, WebRequest request) {
+        UriComponentsBuilder url = UriComponentsBuilder.fromPath(path);
+        getParameters(request).forEach((name, values) -> {
+            if (!PAGING_PARAMETERS.contains(name)) {
+                url.queryParam(name, values.toArray());
+            }
+        });
+        return url.encode().toUriString();
+    }
+
+    private static Map<String, List<String>> getParameters(WebRequest request) {
+        Map<String, List<String>> parameters = new TreeMap<>();
+        request.getParameterMap().forEach((name, values) -> parameters.put(name, Arrays.asList(values)));
+        return parameters;
+    }
 }
@@ -1,11 +1,11 @@
 package com.softserve.todolistmanager.controller;
 
+import com.softserve.todolistmanager.dto.KeysetPage;
 import com.softserve.todolistmanager.model.User;
-import com.softserve.todolistmanager.repository.UserRepository;
-import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
 import com.softserve.todolistmanager.service.RoleService;
 import com.softserve.todolistmanager.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Controller;
@@ -21,23 +21,18 @@ public class UserController {
     private final UserService userService;
     private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
-    private final UserRepository userRepository;
-    private final UserDetailsServiceImpl userDetailsService;
 
     @Autowired
-    public UserController(UserService userService, RoleService roleService, PasswordEncoder passwordEncoder, UserRepository userRepository, UserDetailsServiceImpl userDetailsService) {
+    public UserController(UserService userService, RoleService roleService, PasswordEncoder passwordEncoder) {
         this.userService = userService;
         this.roleService = roleService;
         this.passwordEncoder = passwordEncoder;
-        this.userRepository = userRepository;
-        this.userDetailsService = userDetailsService;
     }
 
     @GetMapping("/create")
     @PreAuthorize("hasAuthority('ADMIN')")
     public String create(Model model) {
         model.addAttribute("user", new User());
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "create-user";
     }
 
@@ -54,25 +49,23 @@ public class UserController {
     }
 
     @GetMapping("/{id}/read")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#id).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#id, 'User', 'read')")
     public String read(@PathVariable long id, Model model) {
         model.addAttribute("user", userService.readById(id));
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "user-info";
     }
 
     @GetMapping("/{id}/update")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#id).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#id, 'User', 'write')")
     public String update(@PathVariable long id, Model model) {
         model.addAttribute("user", userService.readById(id));
         model.addAttribute("roles", roleService.getAll());
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
         return "update-user";
     }
 
 
     @PostMapping("/{id}/update")
-    @PreAuthorize("hasAuthority('ADMIN') or @userServiceImpl.readById(#id).email.equals(authentication.name)")
+    @PreAuthorize("hasPermission(#id, 'User', 'write')")
     public String update(@PathVariable long id, Model model,
                          @Validated @ModelAttribute("user") User user,
                          @RequestParam("roleId") long roleId, BindingResult result) {
@@ -102,9 +95,13 @@ public class UserController {
 
     @GetMapping("/all")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public String getAll(Model model) {
-        model.addAttribute("users", userService.getAll());
-        model.addAttribute("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
+    public String getAll(Model model,
+                         @RequestParam(value = "after", required = false) Long after,
+                         @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                         @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction) {
+        KeysetPage<User> page = userService.getPage(after, size, direction);
+        model.addAttribute("users", page.getItems());
+        model.addAttribute("page", page);
         return "users-list";
     }
 }
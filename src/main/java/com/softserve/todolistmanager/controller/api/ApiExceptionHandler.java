@@ -0,0 +1,74 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.exception.InvalidCursorException;
+import com.softserve.todolistmanager.exception.NullEntityReferenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolationException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JSON counterpart of {@link com.softserve.todolistmanager.exception.GlobalExceptionHandler} for the
+ * API controllers, which must not answer with the error page.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ApiExceptionHandler {
+
+    Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    @ExceptionHandler({NullEntityReferenceException.class, ConstraintViolationException.class,
+            MethodArgumentNotValidException.class, HttpMessageNotReadableException.class,
+            InvalidCursorException.class, MethodArgumentTypeMismatchException.class, BindException.class,
+            PropertyReferenceException.class})
+    public ResponseEntity<Map<String, Object>> badRequestHandler(HttpServletRequest request, Exception exception) {
+        return getResponse(request, HttpStatus.BAD_REQUEST, exception);
+    }
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> entityNotFoundExceptionHandler(HttpServletRequest request, EntityNotFoundException exception) {
+        return getResponse(request, HttpStatus.NOT_FOUND, exception);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> optimisticLockingFailureExceptionHandler(HttpServletRequest request, OptimisticLockingFailureException exception) {
+        return getResponse(request, HttpStatus.CONFLICT, exception);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<Map<String, Object>> accessDeniedErrorHandler(HttpServletRequest request, Exception exception) {
+        return getResponse(request, HttpStatus.FORBIDDEN, exception);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> internalServerErrorHandler(HttpServletRequest request, Exception exception) {
+        return getResponse(request, HttpStatus.INTERNAL_SERVER_ERROR, exception);
+    }
+
+    private ResponseEntity<Map<String, Object>> getResponse(HttpServletRequest request, HttpStatus httpStatus, Exception exception) {
+        logger.error("Exception raised = {} :: URL = {}", exception.getMessage(), request.getRequestURL());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", httpStatus.value());
+        body.put("error", httpStatus.getReasonPhrase());
+        body.put("message", exception.getMessage());
+        body.put("path", request.getRequestURI());
+        return ResponseEntity.status(httpStatus).body(body);
+    }
+}
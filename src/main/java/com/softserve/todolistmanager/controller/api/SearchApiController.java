@@ -0,0 +1,34 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.security.CurrentUser;
+import com.softserve.todolistmanager.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchApiController {
+    private final SearchService searchService;
+    private final CurrentUser currentUser;
+    private final SparseFields sparseFields;
+
+    @Autowired
+    public SearchApiController(SearchService searchService, CurrentUser currentUser, SparseFields sparseFields) {
+        this.searchService = searchService;
+        this.currentUser = currentUser;
+        this.sparseFields = sparseFields;
+    }
+
+    @GetMapping
+    public KeysetPage<Object> search(@RequestParam(value = "q", defaultValue = "") String query,
+                                     @RequestParam(value = "after", required = false) String after,
+                                     @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                                     @RequestParam(value = "fields", required = false) String fields) {
+        Long userId = currentUser.isAdmin() ? null : currentUser.getPrincipal().getId();
+        return sparseFields.select(searchService.search(query, userId, after, size), fields);
+    }
+}
@@ -0,0 +1,58 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.softserve.todolistmanager.dto.KeysetPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the {@code fields=id,title} query parameter of the API: when present, only the listed
+ * DTO properties are written to the response.
+ */
+@Component
+public class SparseFields {
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public SparseFields(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Object select(Object dto, String fields) {
+        Set<String> names = parse(fields);
+        return names.isEmpty() ? dto : retain(dto, names);
+    }
+
+    public List<Object> select(List<?> dtos, String fields) {
+        Set<String> names = parse(fields);
+        return dtos.stream()
+                .map(dto -> names.isEmpty() ? dto : retain(dto, names))
+                .collect(Collectors.toList());
+    }
+
+    public KeysetPage<Object> select(KeysetPage<?> page, String fields) {
+        Set<String> names = parse(fields);
+        return page.map(dto -> names.isEmpty() ? dto : retain(dto, names));
+    }
+
+    private ObjectNode retain(Object dto, Set<String> names) {
+        ObjectNode node = objectMapper.valueToTree(dto);
+        return node.retain(names);
+    }
+
+    private Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,32 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.dto.StateTransformer;
+import com.softserve.todolistmanager.service.StateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/states")
+public class StateApiController {
+    private final StateService stateService;
+    private final SparseFields sparseFields;
+
+    @Autowired
+    public StateApiController(StateService stateService, SparseFields sparseFields) {
+        this.stateService = stateService;
+        this.sparseFields = sparseFields;
+    }
+
+    @GetMapping
+    public List<Object> getAll(@RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(stateService.getAll().stream()
+                .map(StateTransformer::convertToDto)
+                .collect(Collectors.toList()), fields);
+    }
+}
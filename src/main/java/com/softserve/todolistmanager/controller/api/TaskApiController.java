@@ -0,0 +1,96 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.dto.TaskFilter;
+import com.softserve.todolistmanager.dto.TaskTransformer;
+import com.softserve.todolistmanager.model.Task;
+import com.softserve.todolistmanager.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.persistence.EntityNotFoundException;
+
+@RestController
+@RequestMapping("/api/v1/todos/{todo_id}/tasks")
+public class TaskApiController {
+    private final TaskService taskService;
+    private final SparseFields sparseFields;
+
+    @Autowired
+    public TaskApiController(TaskService taskService, SparseFields sparseFields) {
+        this.taskService = taskService;
+        this.sparseFields = sparseFields;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'read')")
+    public KeysetPage<Object> getAll(@PathVariable("todo_id") long todoId,
+                                     @RequestParam(value = "after", required = false) String after,
+                                     @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                                     @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+                                     @RequestParam(value = "fields", required = false) String fields,
+                                     TaskFilter filter, Sort sort) {
+        return sparseFields.select(taskService.getPageByTodoId(todoId, filter, sort, after, size, direction)
+                .map(TaskTransformer::convertToDto), fields);
+    }
+
+    @PostMapping
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
+    public ResponseEntity<TaskDto> create(@PathVariable("todo_id") long todoId, @Validated @RequestBody TaskDto taskDto) {
+        taskDto.setId(0);
+        taskDto.setTodoId(todoId);
+        Task task = taskService.create(taskDto);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(task.getId()).toUri())
+                .body(TaskTransformer.convertToDto(task));
+    }
+
+    @GetMapping("/{task_id}")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'read')")
+    public Object read(@PathVariable("todo_id") long todoId, @PathVariable("task_id") long taskId,
+                       @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(TaskTransformer.convertToDto(readTask(todoId, taskId)), fields);
+    }
+
+    @PutMapping("/{task_id}")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
+    public TaskDto update(@PathVariable("todo_id") long todoId, @PathVariable("task_id") long taskId,
+                          @Validated @RequestBody TaskDto taskDto) {
+        readTask(todoId, taskId);
+        taskDto.setId(taskId);
+        taskDto.setTodoId(todoId);
+        return TaskTransformer.convertToDto(taskService.update(taskDto));
+    }
+
+    @DeleteMapping("/{task_id}")
+    @PreAuthorize("hasPermission(#todoId, 'ToDo', 'write')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable("todo_id") long todoId, @PathVariable("task_id") long taskId) {
+        readTask(todoId, taskId);
+        taskService.delete(taskId);
+    }
+
+    private Task readTask(long todoId, long taskId) {
+        Task task = taskService.readById(taskId);
+        if (task.getTodo().getId() != todoId) {
+            throw new EntityNotFoundException(String.format("Task with id '%s' not found", taskId));
+        }
+        return task;
+    }
+}
@@ -0,0 +1,119 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.dto.TaskStats;
+import com.softserve.todolistmanager.dto.ToDoDto;
+import com.softserve.todolistmanager.dto.ToDoTransformer;
+import com.softserve.todolistmanager.dto.UserTransformer;
+import com.softserve.todolistmanager.exception.NullEntityReferenceException;
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.service.TaskStatsService;
+import com.softserve.todolistmanager.service.ToDoService;
+import com.softserve.todolistmanager.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/todos")
+public class ToDoApiController {
+    private final ToDoService todoService;
+    private final UserService userService;
+    private final TaskStatsService taskStatsService;
+    private final SparseFields sparseFields;
+
+    @Autowired
+    public ToDoApiController(ToDoService todoService, UserService userService, TaskStatsService taskStatsService,
+                             SparseFields sparseFields) {
+        this.todoService = todoService;
+        this.userService = userService;
+        this.taskStatsService = taskStatsService;
+        this.sparseFields = sparseFields;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasPermission(#todoDto.ownerId, 'User', 'write')")
+    public ResponseEntity<ToDoDto> create(@Validated @RequestBody ToDoDto todoDto) {
+        todoDto.setId(0);
+        ToDo todo = todoService.create(ToDoTransformer.convertToEntity(todoDto, userService.readById(todoDto.getOwnerId())));
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(todo.getId()).toUri())
+                .body(ToDoTransformer.convertToDto(todo));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    public Object read(@PathVariable long id, @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(ToDoTransformer.convertToDto(todoService.readById(id)), fields);
+    }
+
+    @PutMapping("/{id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
+    public ToDoDto update(@PathVariable long id, @Validated @RequestBody ToDoDto todoDto) {
+        if (todoDto.getVersion() == null) {
+            throw new NullEntityReferenceException("ToDo version cannot be 'null'");
+        }
+        ToDo todo = ToDoTransformer.convertToEntity(todoDto, null);
+        todo.setId(id);
+        return ToDoTransformer.convertToDto(todoService.update(todo));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable long id) {
+        todoService.delete(id);
+    }
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    public TaskStats getStats(@PathVariable long id) {
+        return taskStatsService.getByTodoId(id);
+    }
+
+    @GetMapping("/{id}/collaborators")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    public List<Object> getCollaborators(@PathVariable long id,
+                                         @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(todoService.readByIdWithCollaborators(id).getCollaborators().stream()
+                .map(UserTransformer::convertToDto)
+                .collect(Collectors.toList()), fields);
+    }
+
+    @GetMapping("/{id}/collaborators/{user_id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'read')")
+    public ResponseEntity<Void> isCollaborator(@PathVariable long id, @PathVariable("user_id") long userId) {
+        return todoService.isCollaborator(id, userId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @PutMapping("/{id}/collaborators/{user_id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void addCollaborator(@PathVariable long id, @PathVariable("user_id") long userId) {
+        todoService.addCollaborator(id, userId);
+    }
+
+    @DeleteMapping("/{id}/collaborators/{user_id}")
+    @PreAuthorize("hasPermission(#id, 'ToDo', 'write')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeCollaborator(@PathVariable long id, @PathVariable("user_id") long userId) {
+        todoService.removeCollaborator(id, userId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.softserve.todolistmanager.controller.api;
+
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.TaskStats;
+import com.softserve.todolistmanager.dto.ToDoTransformer;
+import com.softserve.todolistmanager.dto.UserTransformer;
+import com.softserve.todolistmanager.service.TaskStatsService;
+import com.softserve.todolistmanager.service.ToDoService;
+import com.softserve.todolistmanager.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserApiController {
+    private final UserService userService;
+    private final ToDoService todoService;
+    private final TaskStatsService taskStatsService;
+    private final SparseFields sparseFields;
+
+    @Autowired
+    public UserApiController(UserService userService, ToDoService todoService, TaskStatsService taskStatsService,
+                             SparseFields sparseFields) {
+        this.userService = userService;
+        this.todoService = todoService;
+        this.taskStatsService = taskStatsService;
+        this.sparseFields = sparseFields;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public KeysetPage<Object> getAll(@RequestParam(value = "after", required = false) Long after,
+                                     @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                                     @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+                                     @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(userService.getPage(after, size, direction).map(UserTransformer::convertToDto), fields);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasPermission(#id, 'User', 'read')")
+    public Object read(@PathVariable long id, @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(UserTransformer.convertToDto(userService.readById(id)), fields);
+    }
+
+    @GetMapping("/{id}/todos")
+    @PreAuthorize("hasPermission(#id, 'User', 'read')")
+    public KeysetPage<Object> getTodos(@PathVariable long id,
+                                       @RequestParam(value = "after", required = false) Long after,
+                                       @RequestParam(value = "size", defaultValue = KeysetPage.DEFAULT_SIZE) int size,
+                                       @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+                                       @RequestParam(value = "fields", required = false) String fields) {
+        return sparseFields.select(
+                todoService.getPageByUserId(id, after, size, direction).map(ToDoTransformer::convertToDto), fields);
+    }
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasPermission(#id, 'User', 'read')")
+    public TaskStats getStats(@PathVariable long id) {
+        return taskStatsService.getByUserId(id);
+    }
+}
@@ -0,0 +1,71 @@
+package com.softserve.todolistmanager.dto;
+
+import com.softserve.todolistmanager.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Where a keyset page continues: the sort-key values of the last row of the previous page, so that the
+ * next one is read without looking that row up again. The values are separated by {@code ~}; numbers are
+ * written as they are and text is Base64url encoded, so a cursor on ids alone is just the id.
+ */
+public final class KeysetCursor {
+    private static final String SEPARATOR = "~";
+
+    private final String cursor;
+    private final List<String> fields;
+
+    private KeysetCursor(String cursor, List<String> fields) {
+        this.cursor = cursor;
+        this.fields = fields;
+    }
+
+    public static String of(Object... values) {
+        List<String> fields = new ArrayList<>(values.length);
+        for (Object value : values) {
+            fields.add(value instanceof Number ? value.toString() : Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+        }
+        return String.join(SEPARATOR, fields);
+    }
+
+    public static KeysetCursor parse(String cursor, int keys) {
+        List<String> fields = Arrays.asList(cursor.split(SEPARATOR, -1));
+        if (fields.size() != keys) {
+            throw invalid(cursor);
+        }
+        return new KeysetCursor(cursor, fields);
+    }
+
+    public long getLong(int index) {
+        try {
+            return Long.parseLong(fields.get(index));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    public double getDouble(int index) {
+        try {
+            return Double.parseDouble(fields.get(index));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    public String getString(int index) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(fields.get(index)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static InvalidCursorException invalid(String cursor) {
+        return new InvalidCursorException(String.format("Cursor '%s' does not fit this page", cursor));
+    }
+}
@@ -0,0 +1,93 @@
+package com.softserve.todolistmanager.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+public class KeysetPage<T> {
+    // the default of the controllers' size parameter, hence a string
+    public static final String DEFAULT_SIZE = "50";
+    public static final int MAX_SIZE = 500;
+
+    private final List<T> items;
+    private final int size;
+    private final String nextCursor;
+    private final Sort.Direction direction;
+
+    public KeysetPage(List<T> items, int size, String nextCursor, Sort.Direction direction) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.direction = direction;
+    }
+
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Sort.Direction direction, ToLongFunction<T> idExtractor) {
+        return keyedBy(rows, size, direction, row -> String.valueOf(idExtractor.applyAsLong(row)));
+    }
+
+    /**
+     * A page whose cursor is built by {@code cursorExtractor} from its last row, for orders that need more
+     * than the id to continue from; see {@link KeysetCursor}.
+     */
+    public static <T> KeysetPage<T> keyedBy(List<T> rows, int size, Sort.Direction direction,
+                                            Function<T, String> cursorExtractor) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(new ArrayList<>(rows), size, null, direction);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, size));
+        return new KeysetPage<>(items, size, cursorExtractor.apply(items.get(size - 1)), direction);
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new KeysetPage<>(mapped, size, nextCursor, direction);
+    }
+
+    public static <T> KeysetPage<T> empty(int size, Sort.Direction direction) {
+        return new KeysetPage<>(Collections.emptyList(), size, null, direction);
+    }
+
+    public static Pageable limit(int size, Sort.Direction direction) {
+        return PageRequest.of(0, size + 1, Sort.by(direction, "id"));
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static long startCursor(Long after, Sort.Direction direction) {
+        if (after != null) {
+            return after;
+        }
+        return direction.isAscending() ? 0 : Long.MAX_VALUE;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+}
@@ -0,0 +1,55 @@
+package com.softserve.todolistmanager.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Version of what a page shows: the number of todos behind it, the latest of their revisions and the
+ * latest modification time, together with the revision of the user directory whose names it shows.
+ * Revisions come from one sequence, so creating or changing a todo raises the latest revision past
+ * every earlier one, and deleting one lowers the number; either way the tag changes.
+ */
+public class RevisionStamp {
+    private final long todos;
+    private final long revision;
+    private final LocalDateTime modifiedAt;
+    private final long directoryRevision;
+    private final LocalDateTime directoryModifiedAt;
+
+    public RevisionStamp(Long todos, Long revision, LocalDateTime modifiedAt,
+                         Long directoryRevision, LocalDateTime directoryModifiedAt) {
+        this.todos = todos == null ? 0 : todos;
+        this.revision = revision == null ? 0 : revision;
+        this.modifiedAt = modifiedAt;
+        this.directoryRevision = directoryRevision == null ? 0 : directoryRevision;
+        this.directoryModifiedAt = directoryModifiedAt;
+    }
+
+    public long getTodos() {
+        return todos;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDateTime getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public long getDirectoryRevision() {
+        return directoryRevision;
+    }
+
+    public long getModifiedAtMillis() {
+        return Math.max(toMillis(modifiedAt), toMillis(directoryModifiedAt));
+    }
+
+    public String toETag() {
+        return todos + "." + revision + "." + directoryRevision;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
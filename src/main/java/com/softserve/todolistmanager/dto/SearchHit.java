@@ -0,0 +1,43 @@
+package com.softserve.todolistmanager.dto;
+
+public class SearchHit {
+    private final int rank;
+    private final String type;
+    private final long id;
+    private final long todoId;
+    private final String text;
+    private final double score;
+
+    public SearchHit(int rank, String type, long id, long todoId, String text, double score) {
+        this.rank = rank;
+        this.type = type;
+        this.id = id;
+        this.todoId = todoId;
+        this.text = text;
+        this.score = score;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,9 @@
+package com.softserve.todolistmanager.dto;
+
+import com.softserve.todolistmanager.model.State;
+
+public class StateTransformer {
+    public static StateDto convertToDto(State state) {
+        return new StateDto(state.getId(), state.getName());
+    }
+}
@@ -18,15 +18,18 @@ public class TaskDto {
     @NotNull
     private long stateId;
 
+    private Long version;
+
     public TaskDto() {
     }
 
-    public TaskDto(long id, String name, String priority, long todoId, long stateId) {
+    public TaskDto(long id, String name, String priority, long todoId, long stateId, Long version) {
         this.id = id;
         this.name = name;
         this.priority = priority;
         this.todoId = todoId;
         this.stateId = stateId;
+        this.version = version;
     }
 
     public long getId() {
@@ -68,4 +71,12 @@ public class TaskDto {
     public void setStateId(long stateId) {
         this.stateId = stateId;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
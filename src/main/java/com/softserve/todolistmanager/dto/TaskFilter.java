@@ -0,0 +1,56 @@
+package com.softserve.todolistmanager.dto;
+
+import com.softserve.todolistmanager.model.Priority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional restrictions of a task page, bound from the {@code priority}, {@code state}, {@code notState}
+ * and {@code name} request parameters. Empty lists and a blank name do not restrict anything.
+ */
+public class TaskFilter {
+    private List<Priority> priority = new ArrayList<>();
+    private List<Long> state = new ArrayList<>();
+    private List<Long> notState = new ArrayList<>();
+    private String name;
+
+    public TaskFilter() {
+    }
+
+    public List<Priority> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(List<Priority> priority) {
+        this.priority = priority;
+    }
+
+    public List<Long> getState() {
+        return state;
+    }
+
+    public void setState(List<Long> state) {
+        this.state = state;
+    }
+
+    public List<Long> getNotState() {
+        return notState;
+    }
+
+    public void setNotState(List<Long> notState) {
+        this.notState = notState;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isEmpty() {
+        return priority.isEmpty() && state.isEmpty() && notState.isEmpty() && (name == null || name.isBlank());
+    }
+}
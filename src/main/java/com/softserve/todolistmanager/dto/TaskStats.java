@@ -0,0 +1,27 @@
+package com.softserve.todolistmanager.dto;
+
+import java.util.Map;
+
+public class TaskStats {
+    private final long total;
+    private final Map<String, Long> byState;
+    private final Map<String, Long> byPriority;
+
+    public TaskStats(long total, Map<String, Long> byState, Map<String, Long> byPriority) {
+        this.total = total;
+        this.byState = byState;
+        this.byPriority = byPriority;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getByState() {
+        return byState;
+    }
+
+    public Map<String, Long> getByPriority() {
+        return byPriority;
+    }
+}
@@ -0,0 +1,28 @@
+package com.softserve.todolistmanager.dto;
+
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.model.User;
+
+public class ToDoTransformer {
+    public static ToDoDto convertToDto(ToDo todo) {
+        return new ToDoDto(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getCreatedAt(),
+                todo.getOwner() == null ? 0 : todo.getOwner().getId(),
+                todo.getVersion()
+        );
+    }
+
+    public static ToDo convertToEntity(ToDoDto todoDto, User owner) {
+        ToDo todo = new ToDo();
+        todo.setId(todoDto.getId());
+        todo.setTitle(todoDto.getTitle());
+        todo.setCreatedAt(todoDto.getCreatedAt());
+        todo.setOwner(owner);
+        if (todoDto.getVersion() != null) {
+            todo.setVersion(todoDto.getVersion());
+        }
+        return todo;
+    }
+}
@@ -0,0 +1,43 @@
+package com.softserve.todolistmanager.dto;
+
+public class UserCredentials {
+    private final long id;
+    private final String email;
+    private final String password;
+    private final String firstName;
+    private final String lastName;
+    private final String roleName;
+
+    public UserCredentials(long id, String email, String password, String firstName, String lastName, String roleName) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.roleName = roleName;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+}
@@ -0,0 +1,15 @@
+package com.softserve.todolistmanager.dto;
+
+import com.softserve.todolistmanager.model.User;
+
+public class UserTransformer {
+    public static UserDto convertToDto(User user) {
+        return new UserDto(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getEmail(),
+                user.getRole() == null ? null : user.getRole().getName()
+        );
+    }
+}
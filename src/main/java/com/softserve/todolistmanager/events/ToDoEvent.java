@@ -0,0 +1,38 @@
+package com.softserve.todolistmanager.events;
+
+public class ToDoEvent {
+    public static final String TASK_CREATED = "task-created";
+    public static final String TASK_UPDATED = "task-updated";
+    public static final String TASK_DELETED = "task-deleted";
+    public static final String TODO_UPDATED = "todo-updated";
+    public static final String COLLABORATOR_ADDED = "collaborator-added";
+    public static final String COLLABORATOR_REMOVED = "collaborator-removed";
+
+    private final long id;
+    private final String type;
+    private final long todoId;
+    private final long entityId;
+
+    public ToDoEvent(long id, String type, long todoId, long entityId) {
+        this.id = id;
+        this.type = type;
+        this.todoId = todoId;
+        this.entityId = entityId;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public long getEntityId() {
+        return entityId;
+    }
+}
@@ -0,0 +1,206 @@
+package com.softserve.todolistmanager.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans the committed changes of a todo out to the Server-Sent Events streams open on it. Publishing
+ * only appends to a bounded buffer per subscriber; the writes to the network happen on a small pool
+ * of sender threads, so one slow client never holds up the request that made the change or the other
+ * subscribers. A subscriber whose buffer overflows is disconnected, and its browser reconnects and
+ * reloads the page. Idle streams get a comment every {@code todolist.events.heartbeat} so that dead
+ * connections are noticed. Only changes committed through this instance reach its subscribers.
+ * Buffers hold the events themselves: an {@link SseEmitter.SseEventBuilder} is consumed by sending it,
+ * so each sender builds its own message.
+ */
+@Component
+public class ToDoEventHub {
+    public static final String EVENT_NAME = "change";
+    private static final ToDoEvent HEARTBEAT = new ToDoEvent(0, "heartbeat", 0, 0);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            runnable -> daemon(runnable, "todo-events-heartbeat"));
+
+    Logger logger = LoggerFactory.getLogger(ToDoEventHub.class);
+
+    @Autowired
+    public ToDoEventHub(@Value("${todolist.events.buffer-size:16}") int bufferSize,
+                        @Value("${todolist.events.senders:2}") int senders,
+                        @Value("${todolist.events.timeout:PT30M}") Duration timeout,
+                        @Value("${todolist.events.heartbeat:PT25S}") Duration heartbeat) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threads = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senders,
+                runnable -> daemon(runnable, "todo-events-sender-" + threads.incrementAndGet()));
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeats.shutdownNow();
+        subscribers.values().forEach(todoSubscribers -> todoSubscribers.forEach(Subscriber::close));
+        senders.shutdown();
+    }
+
+    public SseEmitter subscribe(long todoId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(todoId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscribers.computeIfAbsent(todoId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount(long todoId) {
+        Set<Subscriber> todoSubscribers = subscribers.get(todoId);
+        return todoSubscribers == null ? 0 : todoSubscribers.size();
+    }
+
+    public void publish(String type, long todoId, long entityId) {
+        afterCommit(() -> {
+            Set<Subscriber> todoSubscribers = subscribers.get(todoId);
+            if (todoSubscribers == null) {
+                return;
+            }
+            ToDoEvent event = new ToDoEvent(sequence.incrementAndGet(), type, todoId, entityId);
+            todoSubscribers.forEach(subscriber -> subscriber.offer(event));
+        });
+    }
+
+    // the todo is gone: end its streams instead of leaving clients waiting for changes that never come
+    public void close(long todoId) {
+        afterCommit(() -> {
+            Set<Subscriber> todoSubscribers = subscribers.remove(todoId);
+            if (todoSubscribers != null) {
+                todoSubscribers.forEach(Subscriber::close);
+            }
+        });
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(todoSubscribers -> todoSubscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    private static SseEmitter.SseEventBuilder message(ToDoEvent event) {
+        if (event == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(EVENT_NAME)
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.todoId, (id, todoSubscribers) -> {
+            todoSubscribers.remove(subscriber);
+            return todoSubscribers.isEmpty() ? null : todoSubscribers;
+        });
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private final class Subscriber implements Runnable {
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final Queue<ToDoEvent> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(long todoId, SseEmitter emitter) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+        }
+
+        private void offer(ToDoEvent event) {
+            if (buffered.incrementAndGet() > bufferSize) {
+                buffered.decrementAndGet();
+                logger.debug("Event buffer of a subscriber to todo {} overflowed, disconnecting it", todoId);
+                close();
+                return;
+            }
+            buffer.offer(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                ToDoEvent event;
+                while ((event = buffer.poll()) != null) {
+                    buffered.decrementAndGet();
+                    emitter.send(message(event));
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Dropping a subscriber to todo {} after a failed send", todoId, e);
+                unsubscribe(this);
+                buffer.clear();
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            unsubscribe(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -1,32 +1,34 @@
 package com.softserve.todolistmanager.exception;
 
-import com.softserve.todolistmanager.repository.UserRepository;
-import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.softserve.todolistmanager.security.CurrentUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.ModelAndView;
 
 import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolationException;
 import javax.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    private final UserRepository userRepository;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final CurrentUser currentUser;
 
     Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @Autowired
-    public GlobalExceptionHandler(UserRepository userRepository, UserDetailsServiceImpl userDetailsService) {
-        this.userRepository = userRepository;
-        this.userDetailsService = userDetailsService;
+    public GlobalExceptionHandler(CurrentUser currentUser) {
+        this.currentUser = currentUser;
     }
 
     @ExceptionHandler(NullEntityReferenceException.class)
@@ -35,12 +37,36 @@ public class GlobalExceptionHandler {
         return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ModelAndView constraintViolationExceptionHandler(HttpServletRequest request, ConstraintViolationException exception) {
+        return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ModelAndView invalidCursorExceptionHandler(HttpServletRequest request, InvalidCursorException exception) {
+        return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
+    }
+
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, BindException.class, PropertyReferenceException.class})
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ModelAndView malformedRequestHandler(HttpServletRequest request, Exception exception) {
+        return getModelAndView(request, HttpStatus.BAD_REQUEST, exception);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(value = HttpStatus.NOT_FOUND)
     public ModelAndView entityNotFoundExceptionHandler(HttpServletRequest request, EntityNotFoundException exception) {
         return getModelAndView(request, HttpStatus.NOT_FOUND, exception);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    public ModelAndView optimisticLockingFailureExceptionHandler(HttpServletRequest request, OptimisticLockingFailureException exception) {
+        return getModelAndView(request, HttpStatus.CONFLICT, exception);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(value = HttpStatus.FORBIDDEN)
     public ModelAndView accessDeniedErrorHandler(HttpServletRequest request, Exception exception) {
@@ -58,7 +84,7 @@ public class GlobalExceptionHandler {
         ModelAndView modelAndView = new ModelAndView("error");
         modelAndView.addObject("code", httpStatus.value() + " / " + httpStatus.getReasonPhrase());
         modelAndView.addObject("message", exception.getMessage());
-        modelAndView.addObject("owner", userRepository.findByEmail(userDetailsService.getCurrentUsername()));
+        modelAndView.addObject("owner", currentUser.getPrincipal());
         return modelAndView;
     }
 }
@@ -0,0 +1,73 @@
+package com.softserve.todolistmanager.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request executes, including the ones issued by the security
+ * filters, and publishes them as the {@code todolist.http.queries} summary. The count is also left
+ * in the {@link #QUERY_COUNT_ATTRIBUTE} request attribute so tests can assert a query budget.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryCountFilter.class.getName() + ".QUERY_COUNT";
+
+    private final QueryCounter queryCounter;
+    private final MeterRegistry registry;
+    private final int queryBudget;
+
+    @Autowired
+    public QueryCountFilter(QueryCounter queryCounter, MeterRegistry registry,
+                            @Value("${todolist.metrics.query-budget:0}") int queryBudget) {
+        this.queryCounter = queryCounter;
+        this.registry = registry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        queryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = queryCounter.stop();
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, count);
+            record(request, count);
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("todolist.http.queries")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(count);
+        if (queryBudget > 0 && count > queryBudget) {
+            Counter.builder("todolist.http.queries.over.budget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .increment();
+            logger.warn(String.format("%s %s executed %d queries, budget is %d", request.getMethod(), uri, count, queryBudget));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.softserve.todolistmanager.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryCounter implements StatementInspector {
+    private final ThreadLocal<int[]> counter = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counter.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public void start() {
+        counter.set(new int[1]);
+    }
+
+    public int current() {
+        int[] count = counter.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public int stop() {
+        int count = current();
+        counter.remove();
+        return count;
+    }
+}
@@ -1,11 +1,15 @@
 package com.softserve.todolistmanager.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
 
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 public class Role {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +25,12 @@ public class Role {
     public Role() {
     }
 
+    // a detached copy of the id and name only
+    public Role(Role role) {
+        this.id = role.id;
+        this.name = role.name;
+    }
+
     public long getId() {
         return id;
     }
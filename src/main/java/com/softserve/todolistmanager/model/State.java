@@ -1,11 +1,15 @@
 package com.softserve.todolistmanager.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import java.util.List;
 
 @Entity
 @Table(name = "states")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "states")
 public class State {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -21,6 +25,12 @@ public class State {
     public State() {
     }
 
+    // a detached copy of the id and name only
+    public State(State state) {
+        this.id = state.id;
+        this.name = state.name;
+    }
+
     public long getId() {
         return id;
     }
@@ -5,11 +5,16 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "IX_tasks_todo_id", columnList = "todo_id, id"),
+        @Index(name = "IX_tasks_state_id", columnList = "state_id"),
+        @Index(name = "IX_tasks_todo_priority", columnList = "todo_id, priority_rank, id"),
+        @Index(name = "IX_tasks_todo_state_priority", columnList = "todo_id, state_id, priority_rank, id"),
+        @Index(name = "IX_tasks_todo_name", columnList = "todo_id, name, id")})
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
-    @SequenceGenerator(name = "task_seq", initialValue = 4)
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", initialValue = 4, allocationSize = 50)
     private long id;
 
     @Column(name = "name", nullable = false)
@@ -19,6 +24,14 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private Priority priority;
 
+    // LOW < MEDIUM < HIGH as a number, so that sorting by priority can use an index
+    @Column(name = "priority_rank", nullable = false)
+    private int priorityRank;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "todo_id")
     private ToDo todo;
@@ -52,6 +65,15 @@ public class Task {
 
     public void setPriority(Priority priority) {
         this.priority = priority;
+        this.priorityRank = priority == null ? 0 : priority.ordinal();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
     }
 
     public ToDo getTodo() {
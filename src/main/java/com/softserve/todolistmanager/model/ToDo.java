@@ -8,11 +8,11 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "IX_todos_owner_id", columnList = "owner_id, id"))
 public class ToDo {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
-    @SequenceGenerator(name = "todo_seq", initialValue = 8)
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", initialValue = 8, allocationSize = 50)
     private long id;
 
     @NotBlank(message = "The 'title' cannot be empty")
@@ -22,6 +22,10 @@ public class ToDo {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "owner_id")
     private User owner;
@@ -32,8 +36,10 @@ public class ToDo {
     @ManyToMany
     @JoinTable(name = "todo_collaborator",
             joinColumns = @JoinColumn(name = "todo_id"),
-            inverseJoinColumns = @JoinColumn(name = "collaborator_id"))
-    private List<User> collaborators;
+            inverseJoinColumns = @JoinColumn(name = "collaborator_id"),
+            indexes = @Index(name = "IX_todo_collaborator_collaborator_id", columnList = "collaborator_id, todo_id"))
+    @OrderBy("id")
+    private Set<User> collaborators;
 
     public ToDo() {
     }
@@ -62,6 +68,14 @@ public class ToDo {
         this.createdAt = createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public User getOwner() {
         return owner;
     }
@@ -78,14 +92,30 @@ public class ToDo {
         this.tasks = tasks;
     }
 
-    public List<User> getCollaborators() {
+    public Set<User> getCollaborators() {
         return collaborators;
     }
 
-    public void setCollaborators(List<User> users) {
+    public void setCollaborators(Set<User> users) {
         this.collaborators = users;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ToDo)) {
+            return false;
+        }
+        return id != 0 && id == ((ToDo) o).getId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+
     @Override
     public String toString() {
         return "ToDo {" +
@@ -0,0 +1,48 @@
+package com.softserve.todolistmanager.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "todo_revisions")
+public class ToDoRevision {
+    @Id
+    @Column(name = "todo_id")
+    private long todoId;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    public ToDoRevision() {
+    }
+
+    public ToDoRevision(long todoId, long revision, LocalDateTime modifiedAt) {
+        this.todoId = todoId;
+        this.revision = revision;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDateTime getModifiedAt() {
+        return modifiedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ToDoRevision {" +
+                "todoId = " + todoId +
+                ", revision = " + revision +
+                ", modifiedAt = " + modifiedAt +
+                "} ";
+    }
+}
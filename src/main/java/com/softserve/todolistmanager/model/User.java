@@ -3,13 +3,14 @@ package com.softserve.todolistmanager.model;
 import javax.persistence.*;
 import javax.validation.constraints.Pattern;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "IX_users_role_id", columnList = "role_id"))
 public class User  {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
-    @SequenceGenerator(name = "user_seq", initialValue = 4)
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", initialValue = 4, allocationSize = 50)
     private long id;
 
     @Pattern(regexp = "[A-Z][a-z]+",
@@ -29,6 +30,10 @@ public class User  {
     @Column(name = "password", nullable = false)
     private String password;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @ManyToOne
     @JoinColumn(name = "role_id")
     private Role role;
@@ -36,11 +41,8 @@ public class User  {
     @OneToMany(mappedBy = "owner", cascade = CascadeType.REMOVE)
     private List<ToDo> myTodos;
 
-    @ManyToMany
-    @JoinTable(name = "todo_collaborator",
-        joinColumns = @JoinColumn(name = "collaborator_id"),
-        inverseJoinColumns = @JoinColumn(name = "todo_id"))
-    private List<ToDo> otherTodos;
+    @ManyToMany(mappedBy = "collaborators")
+    private Set<ToDo> otherTodos;
 
     public User() {
     }
@@ -85,6 +87,14 @@ public class User  {
         this.password = password;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Role getRole() {
         return role;
     }
@@ -101,11 +111,11 @@ public class User  {
         this.myTodos = myTodos;
     }
 
-    public List<ToDo> getOtherTodos() {
+    public Set<ToDo> getOtherTodos() {
         return otherTodos;
     }
 
-    public void setOtherTodos(List<ToDo> todos) {
+    public void setOtherTodos(Set<ToDo> todos) {
         this.otherTodos = todos;
     }
 
@@ -113,6 +123,22 @@ public class User  {
         return email;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof User)) {
+            return false;
+        }
+        return id != 0 && id == ((User) o).getId();
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+
     @Override
     public String toString() {
         return "User {" +
@@ -0,0 +1,41 @@
+package com.softserve.todolistmanager.model;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_directory_revision")
+public class UserDirectoryStamp {
+    @Id
+    @Column(name = "id")
+    private int id;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    public UserDirectoryStamp() {
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDateTime getModifiedAt() {
+        return modifiedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "UserDirectoryStamp {" +
+                "revision = " + revision +
+                ", modifiedAt = " + modifiedAt +
+                "} ";
+    }
+}
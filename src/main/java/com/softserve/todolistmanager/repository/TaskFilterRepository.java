@@ -0,0 +1,11 @@
+package com.softserve.todolistmanager.repository;
+
+import com.softserve.todolistmanager.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskFilterRepository {
+    List<Task> findPage(Specification<Task> specification, Sort sort, int limit);
+}
@@ -1,16 +1,53 @@
 package com.softserve.todolistmanager.repository;
 
 import com.softserve.todolistmanager.model.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository {
 
-    @Query(value = "select * from tasks where todo_id = ?1", nativeQuery = true)
+    @Query("select t from Task t join fetch t.state join fetch t.todo where t.todo.id = ?1 order by t.id")
     List<Task> getByTodoId(long todoId);
 
+    @Query("select t from Task t join fetch t.state join fetch t.todo where t.id > ?1")
+    List<Task> findPageAfter(long afterId, Pageable pageable);
+
+    @Query("select t from Task t join fetch t.state join fetch t.todo where t.id < ?1")
+    List<Task> findPageBefore(long beforeId, Pageable pageable);
+
+    @Query("select t from Task t join fetch t.state join fetch t.todo where t.todo.id = ?1 and t.id > ?2")
+    List<Task> findPageByTodoIdAfter(long todoId, long afterId, Pageable pageable);
+
+    @Query("select t from Task t join fetch t.state join fetch t.todo where t.todo.id = ?1 and t.id < ?2")
+    List<Task> findPageByTodoIdBefore(long todoId, long beforeId, Pageable pageable);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "task_counters"))
+    @Query(value = "update task_counters set task_count = task_count + ?4 " +
+            "where todo_id = ?1 and state_id = ?2 and priority = ?3", nativeQuery = true)
+    int addToCounter(long todoId, long stateId, String priority, long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "task_counters"))
+    @Query(value = "insert into task_counters (todo_id, owner_id, state_id, priority, task_count) " +
+            "select id, owner_id, ?2, ?3, ?4 from todos where id = ?1 on conflict do nothing", nativeQuery = true)
+    int insertCounter(long todoId, long stateId, String priority, long count);
+
+    @Query(value = "select state_id, priority, task_count from task_counters where todo_id = ?1", nativeQuery = true)
+    List<Object[]> getCountersByTodoId(long todoId);
+
+    @Query(value = "select state_id, priority, sum(task_count) from task_counters where owner_id = ?1 " +
+            "group by state_id, priority", nativeQuery = true)
+    List<Object[]> getCountersByOwnerId(long ownerId);
+
 }
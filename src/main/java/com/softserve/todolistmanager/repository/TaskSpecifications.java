@@ -0,0 +1,145 @@
+package com.softserve.todolistmanager.repository;
+
+import com.softserve.todolistmanager.dto.KeysetCursor;
+import com.softserve.todolistmanager.dto.TaskFilter;
+import com.softserve.todolistmanager.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.ClassTypeInformation;
+
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria for the filtered and sorted task pages. Sort properties are the public names {@code id},
+ * {@code name}, {@code priority} and {@code state}, and any other one is rejected with a
+ * {@link PropertyReferenceException}; the page is always completed with {@code id} so
+ * that the order is total. The cursor of a page carries the sort-key values of its last task, so the next
+ * page is read without that task, which may have been changed or deleted in between.
+ */
+public final class TaskSpecifications {
+    private static final Map<String, String> SORT_PROPERTIES = Map.of(
+            "id", "id",
+            "name", "name",
+            "priority", "priorityRank",
+            "state", "state.id");
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> inTodo(long todoId) {
+        return (root, query, cb) -> cb.equal(root.get("todo").get("id"), todoId);
+    }
+
+    public static Specification<Task> matching(TaskFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (!filter.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriority()));
+            }
+            if (!filter.getState().isEmpty()) {
+                predicates.add(root.get("state").get("id").in(filter.getState()));
+            }
+            if (!filter.getNotState().isEmpty()) {
+                predicates.add(cb.not(root.get("state").get("id").in(filter.getNotState())));
+            }
+            if (filter.getName() != null && !filter.getName().isBlank()) {
+                predicates.add(cb.like(root.get("name"), escape(filter.getName().trim()) + "%", '\\'));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Rows strictly after {@code cursor} in {@code sort}: for keys k1..kn that is
+     * {@code k1 > v1 or (k1 = v1 and k2 > v2) or ...}, with the comparison flipped for descending keys.
+     */
+    public static Specification<Task> after(String cursor, Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        KeysetCursor values = KeysetCursor.parse(cursor, orders.size());
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalities = new ArrayList<>();
+            for (int i = 0; i < orders.size(); i++) {
+                Sort.Order order = orders.get(i);
+                Path<Comparable<Object>> path = path(root, order.getProperty());
+                Comparable<Object> value = value(values, i, order.getProperty());
+                List<Predicate> alternative = new ArrayList<>(equalities);
+                alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+                equalities.add(cb.equal(path, value));
+            }
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    public static String cursorOf(Task task, Sort sort) {
+        return KeysetCursor.of(sort.stream().map(order -> value(task, order.getProperty())).toArray());
+    }
+
+    /**
+     * Maps the public sort properties to entity paths, drops unknown ones and appends the {@code id}
+     * tie-breaker in {@code direction} unless the sort already ends with it.
+     */
+    public static Sort toEntitySort(Sort sort, Sort.Direction direction) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String property = SORT_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new PropertyReferenceException(order.getProperty(), ClassTypeInformation.from(Task.class),
+                        Collections.emptyList());
+            }
+            if (orders.stream().noneMatch(o -> o.getProperty().equals(property))) {
+                orders.add(new Sort.Order(order.getDirection(), property));
+            }
+        }
+        if (orders.stream().noneMatch(o -> o.getProperty().equals("id"))) {
+            orders.add(new Sort.Order(direction, "id"));
+        }
+        return Sort.by(orders);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Path<Comparable<Object>> path(Root<Task> root, String property) {
+        Path<?> path = root;
+        for (String part : property.split("\\.")) {
+            path = path.get(part);
+        }
+        return (Path<Comparable<Object>>) path;
+    }
+
+    private static Object value(Task task, String property) {
+        switch (property) {
+            case "name":
+                return task.getName();
+            case "priorityRank":
+                return task.getPriority() == null ? 0 : task.getPriority().ordinal();
+            case "state.id":
+                return task.getState().getId();
+            default:
+                return task.getId();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> value(KeysetCursor cursor, int index, String property) {
+        switch (property) {
+            case "name":
+                return (Comparable<Object>) (Comparable<?>) cursor.getString(index);
+            case "priorityRank":
+                return (Comparable<Object>) (Comparable<?>) (int) cursor.getLong(index);
+            default:
+                return (Comparable<Object>) (Comparable<?>) cursor.getLong(index);
+        }
+    }
+
+    private static String escape(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
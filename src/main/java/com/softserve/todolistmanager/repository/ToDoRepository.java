@@ -1,18 +1,71 @@
 package com.softserve.todolistmanager.repository;
 
 import com.softserve.todolistmanager.model.ToDo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
 
 @Repository
 public interface ToDoRepository extends JpaRepository<ToDo, Long> {
 
-    @Query(value = "select id, title, created_at, owner_id from todos where owner_id = ?1 union " +
-            "select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
+    @Query(value = "select id, title, created_at, version, owner_id from todos where owner_id = ?1 union " +
+            "select id, title, created_at, version, owner_id from todos inner join todo_collaborator on id = todo_id and " +
             "collaborator_id = ?1", nativeQuery = true)
     List<ToDo> getByUserId(long userId);
 
+    @Query(value = "select * from (select t.* from todos t where t.owner_id = ?1 and t.id > ?2 union " +
+            "select t.* from todos t inner join todo_collaborator c on t.id = c.todo_id and c.collaborator_id = ?1 " +
+            "where t.id > ?2) v order by v.id limit ?3", nativeQuery = true)
+    List<ToDo> getPageByUserIdAfter(long userId, long afterId, int limit);
+
+    @Query(value = "select * from (select t.* from todos t where t.owner_id = ?1 and t.id < ?2 union " +
+            "select t.* from todos t inner join todo_collaborator c on t.id = c.todo_id and c.collaborator_id = ?1 " +
+            "where t.id < ?2) v order by v.id desc limit ?3", nativeQuery = true)
+    List<ToDo> getPageByUserIdBefore(long userId, long beforeId, int limit);
+
+    @Query("select t from ToDo t join fetch t.owner where t.id > ?1")
+    List<ToDo> findPageAfter(long afterId, Pageable pageable);
+
+    @Query("select t from ToDo t join fetch t.owner where t.id < ?1")
+    List<ToDo> findPageBefore(long beforeId, Pageable pageable);
+
+    @Query("select distinct t from ToDo t join fetch t.owner o left join fetch o.role " +
+            "left join fetch t.collaborators c left join fetch c.role where t.id = ?1")
+    Optional<ToDo> findWithCollaboratorsById(long id);
+
+    @Query("select t.id from ToDo t where t.owner.id = ?1 " +
+            "or t.id in (select s.id from ToDo s join s.collaborators c where c.id = ?1)")
+    Set<Long> getIdsByUserId(long userId);
+
+    boolean existsByIdAndOwnerId(long id, long ownerId);
+
+    @Query(value = "select count(*) > 0 from todos t where t.id = ?1 and (t.owner_id = ?2 or exists " +
+            "(select 1 from todo_collaborator c where c.todo_id = t.id and c.collaborator_id = ?2))", nativeQuery = true)
+    boolean isOwnerOrCollaborator(long id, long userId);
+
+    @Query(value = "select count(*) > 0 from todo_collaborator c where c.todo_id = ?1 and c.collaborator_id = ?2",
+            nativeQuery = true)
+    boolean isCollaborator(long id, long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "todo_collaborator"))
+    @Query(value = "insert into todo_collaborator (todo_id, collaborator_id) select ?1, ?2 where not exists " +
+            "(select 1 from todo_collaborator c where c.todo_id = ?1 and c.collaborator_id = ?2)", nativeQuery = true)
+    int insertCollaborator(long id, long userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "todo_collaborator"))
+    @Query(value = "delete from todo_collaborator where todo_id = ?1 and collaborator_id = ?2", nativeQuery = true)
+    int deleteCollaborator(long id, long userId);
+
 }
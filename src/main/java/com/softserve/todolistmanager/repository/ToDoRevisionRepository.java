@@ -0,0 +1,41 @@
+package com.softserve.todolistmanager.repository;
+
+import com.softserve.todolistmanager.dto.RevisionStamp;
+import com.softserve.todolistmanager.model.ToDoRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+
+@Repository
+public interface ToDoRevisionRepository extends JpaRepository<ToDoRevision, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "todo_revisions"))
+    @Query(value = "update todo_revisions set revision = nextval('todo_revision_seq'), modified_at = ?2 " +
+            "where todo_id = ?1", nativeQuery = true)
+    int touch(long todoId, LocalDateTime modifiedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "todo_revisions"))
+    @Query(value = "insert into todo_revisions (todo_id, revision, modified_at) " +
+            "values (?1, nextval('todo_revision_seq'), ?2)", nativeQuery = true)
+    int insert(long todoId, LocalDateTime modifiedAt);
+
+    @Query("select new com.softserve.todolistmanager.dto.RevisionStamp(count(r), max(r.revision), max(r.modifiedAt), " +
+            "(select d.revision from UserDirectoryStamp d), (select d.modifiedAt from UserDirectoryStamp d)) " +
+            "from ToDoRevision r where r.todoId = ?1")
+    RevisionStamp getStampByTodoId(long todoId);
+
+    @Query("select new com.softserve.todolistmanager.dto.RevisionStamp(count(r), max(r.revision), max(r.modifiedAt), " +
+            "(select d.revision from UserDirectoryStamp d), (select d.modifiedAt from UserDirectoryStamp d)) " +
+            "from ToDoRevision r where r.todoId in (select t.id from ToDo t where t.owner.id = ?1) " +
+            "or r.todoId in (select t.id from ToDo t join t.collaborators c where c.id = ?1)")
+    RevisionStamp getStampByUserId(long userId);
+}
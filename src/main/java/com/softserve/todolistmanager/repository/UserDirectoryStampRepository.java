@@ -0,0 +1,19 @@
+package com.softserve.todolistmanager.repository;
+
+import com.softserve.todolistmanager.model.UserDirectoryStamp;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserDirectoryStampRepository extends JpaRepository<UserDirectoryStamp, Integer> {
+
+    @Transactional
+    @Modifying
+    @Query("update UserDirectoryStamp d set d.revision = d.revision + 1, d.modifiedAt = ?1")
+    int touch(LocalDateTime modifiedAt);
+}
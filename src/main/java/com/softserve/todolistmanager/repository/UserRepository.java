@@ -1,12 +1,46 @@
 package com.softserve.todolistmanager.repository;
 
+import com.softserve.todolistmanager.dto.UserCredentials;
 import com.softserve.todolistmanager.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     User findByEmail(String email);
 
+    @Query("select new com.softserve.todolistmanager.dto.UserCredentials(u.id, u.email, u.password, " +
+            "u.firstName, u.lastName, r.name) " +
+            "from User u left join u.role r where u.email = ?1")
+    Optional<UserCredentials> findCredentialsByEmail(String email);
+
+    @Query("select u from User u left join fetch u.role " +
+            "where u.id not in (select t.owner.id from ToDo t where t.id = ?1) " +
+            "and u.id not in (select c.id from ToDo t join t.collaborators c where t.id = ?1) order by u.id")
+    List<User> findCollaboratorCandidates(long todoId);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = ?2 where u.email = ?1")
+    int updatePassword(String email, String password);
+
+    @Query("select u from User u left join fetch u.role where u.id > ?1")
+    List<User> findPageAfter(long afterId, Pageable pageable);
+
+    @Query("select u from User u left join fetch u.role where u.id < ?1")
+    List<User> findPageBefore(long beforeId, Pageable pageable);
+
 }
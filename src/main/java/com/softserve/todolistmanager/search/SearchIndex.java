@@ -0,0 +1,239 @@
+package com.softserve.todolistmanager.search;
+
+import com.softserve.todolistmanager.dto.SearchHit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over todo titles and task names. It is loaded from the database once the
+ * application is ready and then kept current by the services; changes made inside a transaction are
+ * applied only after it commits. The last query term also matches as a prefix, so partially typed
+ * words find results. The index belongs to this instance: changes made through another one show up
+ * here only after the next {@link #rebuild()}.
+ */
+@Component
+public class SearchIndex {
+    public static final String TODO = "todo";
+    public static final String TASK = "task";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Document>> postings = new TreeMap<>();
+    private final Map<Long, Set<Document>> tasksByTodo = new HashMap<>();
+
+    Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    @Autowired
+    public SearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Document> loaded = new ArrayList<>();
+        jdbcTemplate.query("select id, title from todos",
+                rs -> {
+                    loaded.add(new Document(TODO, rs.getLong(1), rs.getLong(1), rs.getString(2)));
+                });
+        jdbcTemplate.query("select id, todo_id, name from tasks",
+                rs -> {
+                    loaded.add(new Document(TASK, rs.getLong(1), rs.getLong(2), rs.getString(3)));
+                });
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            tasksByTodo.clear();
+            loaded.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index loaded with {} documents", loaded.size());
+    }
+
+    public void indexTodo(long id, String title) {
+        afterCommit(() -> write(() -> put(new Document(TODO, id, id, title))));
+    }
+
+    public void indexTask(long id, long todoId, String name) {
+        afterCommit(() -> write(() -> put(new Document(TASK, id, todoId, name))));
+    }
+
+    public void removeTodo(long id) {
+        afterCommit(() -> write(() -> {
+            remove(key(TODO, id));
+            Set<Document> tasks = tasksByTodo.remove(id);
+            if (tasks != null) {
+                new ArrayList<>(tasks).forEach(task -> remove(task.key()));
+            }
+        }));
+    }
+
+    public void removeTask(long id) {
+        afterCommit(() -> write(() -> remove(key(TASK, id))));
+    }
+
+    /**
+     * Ranks every document matching at least one term of the query and visible according to
+     * {@code visibleTodo}, best match first. Scores are tf-idf weighted and normalized by the length
+     * of the text, so a short title that is exactly the query wins over a long one that mentions it.
+     */
+    public List<SearchHit> search(String query, LongPredicate visibleTodo) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Document, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int total = Math.max(documents.size(), 1);
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                Map<String, Set<Document>> matches = i == terms.size() - 1
+                        ? postings.subMap(term, true, term + Character.MAX_VALUE, false)
+                        : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+                for (Map.Entry<String, Set<Document>> match : matches.entrySet()) {
+                    double idf = Math.log(1.0 + (double) total / match.getValue().size());
+                    double weight = match.getKey().equals(term) ? idf : idf / 2;
+                    for (Document document : match.getValue()) {
+                        if (visibleTodo.test(document.todoId)) {
+                            double score = weight * document.frequency(match.getKey()) / Math.sqrt(document.length);
+                            scores.merge(document, score, Double::sum);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Map.Entry<Document, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Document, Double>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().type)
+                .thenComparing(entry -> entry.getKey().id, Comparator.reverseOrder()));
+        List<SearchHit> hits = new ArrayList<>(ranked.size());
+        for (Map.Entry<Document, Double> entry : ranked) {
+            Document document = entry.getKey();
+            hits.add(new SearchHit(hits.size() + 1, document.type, document.id, document.todoId,
+                    document.text, entry.getValue()));
+        }
+        return hits;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+"))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private void put(Document document) {
+        remove(document.key());
+        documents.put(document.key(), document);
+        for (String term : document.terms.keySet()) {
+            postings.computeIfAbsent(term, t -> new HashSet<>()).add(document);
+        }
+        if (TASK.equals(document.type)) {
+            tasksByTodo.computeIfAbsent(document.todoId, id -> new LinkedHashSet<>()).add(document);
+        }
+    }
+
+    private void remove(String key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms.keySet()) {
+            Set<Document> matches = postings.get(term);
+            if (matches != null && matches.remove(document) && matches.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        if (TASK.equals(document.type)) {
+            Set<Document> tasks = tasksByTodo.get(document.todoId);
+            if (tasks != null && tasks.remove(document) && tasks.isEmpty()) {
+                tasksByTodo.remove(document.todoId);
+            }
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static String key(String type, long id) {
+        return type + ':' + id;
+    }
+
+    private static final class Document {
+        private final String type;
+        private final long id;
+        private final long todoId;
+        private final String text;
+        private final Map<String, Integer> terms = new HashMap<>();
+        private final int length;
+
+        private Document(String type, long id, long todoId, String text) {
+            this.type = type;
+            this.id = id;
+            this.todoId = todoId;
+            this.text = text;
+            List<String> tokens = tokenize(text);
+            tokens.forEach(token -> terms.merge(token, 1, Integer::sum));
+            this.length = Math.max(tokens.size(), 1);
+        }
+
+        private String key() {
+            return SearchIndex.key(type, id);
+        }
+
+        private int frequency(String term) {
+            return terms.getOrDefault(term, 0);
+        }
+    }
+}
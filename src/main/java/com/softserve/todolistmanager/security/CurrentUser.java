@@ -0,0 +1,28 @@
+package com.softserve.todolistmanager.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@Component
+@RequestScope
+public class CurrentUser {
+    private final UserDetailsSecurity principal;
+
+    @Autowired
+    public CurrentUser(UserDetailsServiceImpl userDetailsService) {
+        this.principal = userDetailsService.getCurrentPrincipal();
+    }
+
+    public UserDetailsSecurity getPrincipal() {
+        return principal;
+    }
+
+    public boolean isAuthenticated() {
+        return principal != null;
+    }
+
+    public boolean isAdmin() {
+        return principal != null && principal.isAdmin();
+    }
+}
@@ -0,0 +1,70 @@
+package com.softserve.todolistmanager.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Principals loaded by this instance, by e-mail. Entries are evicted by the user mutators running here
+ * and otherwise expire after {@code todolist.security.principal-cache.ttl}, which is how long a change
+ * made through another instance can take to show.
+ */
+@Component
+public class PrincipalCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    @Autowired
+    public PrincipalCache(@Value("${todolist.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${todolist.security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized UserDetailsSecurity get(String email) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt > ttlNanos) {
+            entries.remove(email);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    public synchronized void put(String email, UserDetailsSecurity principal) {
+        if (maxSize > 0) {
+            entries.put(email, new Entry(principal, System.nanoTime()));
+        }
+    }
+
+    public synchronized void evict(String email) {
+        entries.remove(email);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final UserDetailsSecurity principal;
+        private final long loadedAt;
+
+        private Entry(UserDetailsSecurity principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,34 +1,52 @@
 package com.softserve.todolistmanager.security;
 
+import org.springframework.beans.factory.ObjectProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.time.Duration;
 
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenSecurityContextRepository tokenRepository;
 
     @Autowired
-    public SecurityConfig(UserDetailsServiceImpl userDetailsService) {
+    public SecurityConfig(UserDetailsServiceImpl userDetailsService,
+                          ObjectProvider<TokenSecurityContextRepository> tokenRepository) {
         this.userDetailsService = userDetailsService;
+        this.tokenRepository = tokenRepository.getIfAvailable();
     }
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
         auth.userDetailsService(userDetailsService)
-                .passwordEncoder(getPasswordEncoder());
+                .passwordEncoder(getApplicationContext().getBean(PasswordEncoder.class));
     }
 
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(MeterRegistry registry,
+                                              @Value("${todolist.security.bcrypt.strength:10}") int strength,
+                                              @Value("${todolist.security.hashing.threads:0}") int threads,
+                                              @Value("${todolist.security.hashing.queue-capacity:64}") int queueCapacity,
+                                              @Value("${todolist.security.hashing.timeout:PT5S}") Duration timeout) {
+        return new PooledPasswordEncoder(strength,
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity, timeout, registry);
     }
 
     @Override
@@ -36,19 +54,40 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         http.csrf().disable()
                 .authorizeRequests()
                 .antMatchers("/form-login", "/registration", "/error").permitAll()
+                .antMatchers("/actuator/**").hasAuthority("ADMIN")
                 .anyRequest().authenticated()
                 .and()
                 .formLogin().loginPage("/form-login")
                 .loginProcessingUrl("/login")
                 .defaultSuccessUrl("/home", true)
-                .failureUrl("/form-login?error")
+                .failureHandler(getFailureHandler())
                 .and()
                 .logout()
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("/form-login")
                 .invalidateHttpSession(true)
                 .clearAuthentication(true)
-                .deleteCookies("JSESSIONID");
+                .deleteCookies("JSESSIONID", TokenSecurityContextRepository.COOKIE_NAME)
+                .and()
+                .httpBasic()
+                .and()
+                .exceptionHandling()
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        new AntPathRequestMatcher("/api/**"));
+        if (tokenRepository != null) {
+            http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    .and()
+                    .securityContext().securityContextRepository(tokenRepository)
+                    .and()
+                    .requestCache().requestCache(new NullRequestCache());
+        }
+    }
+
+    // in token mode a failed login must not open a session just to remember the exception
+    private SimpleUrlAuthenticationFailureHandler getFailureHandler() {
+        SimpleUrlAuthenticationFailureHandler failureHandler = new SimpleUrlAuthenticationFailureHandler("/form-login?error");
+        failureHandler.setAllowSessionCreation(tokenRepository == null);
+        return failureHandler;
     }
 
 }
@@ -0,0 +1,77 @@
+package com.softserve.todolistmanager.security;
+
+import com.softserve.todolistmanager.repository.ToDoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Backs the {@code hasPermission(#id, 'ToDo'|'User', 'read'|'write')} checks of the controllers.
+ * Decisions are answered from the principal or a single existence query and remembered for the
+ * rest of the request.
+ */
+@Component
+public class ToDoPermissionEvaluator implements PermissionEvaluator {
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    private static final String DECISIONS_ATTRIBUTE = ToDoPermissionEvaluator.class.getName() + ".decisions";
+
+    private final ToDoRepository toDoRepository;
+
+    @Autowired
+    public ToDoPermissionEvaluator(ToDoRepository toDoRepository) {
+        this.toDoRepository = toDoRepository;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return false;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsSecurity)) {
+            return false;
+        }
+        UserDetailsSecurity principal = (UserDetailsSecurity) authentication.getPrincipal();
+        if (principal.isAdmin()) {
+            return true;
+        }
+        long id = ((Number) targetId).longValue();
+        switch (targetType) {
+            case "User":
+                return principal.getId() == id;
+            case "ToDo":
+                return decide(targetType + ':' + id + ':' + permission + ':' + principal.getId(),
+                        () -> WRITE.equals(permission)
+                                ? toDoRepository.existsByIdAndOwnerId(id, principal.getId())
+                                : toDoRepository.isOwnerOrCollaborator(id, principal.getId()));
+            default:
+                return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean decide(String key, BooleanSupplier decision) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return decision.getAsBoolean();
+        }
+        Map<String, Boolean> decisions =
+                (Map<String, Boolean>) attributes.getAttribute(DECISIONS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (decisions == null) {
+            decisions = new HashMap<>();
+            attributes.setAttribute(DECISIONS_ATTRIBUTE, decisions, RequestAttributes.SCOPE_REQUEST);
+        }
+        return decisions.computeIfAbsent(key, k -> decision.getAsBoolean());
+    }
+}
@@ -0,0 +1,242 @@
+package com.softserve.todolistmanager.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserve.todolistmanager.dto.UserCredentials;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SaveContextOnUpdateOrErrorResponseWrapper;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the security context in an HMAC-signed cookie instead of the HTTP session when
+ * {@code todolist.security.session-mode=token}. The token carries the {@link UserDetailsSecurity}
+ * without its password, so any instance holding the same {@code todolist.security.token.secret}
+ * can authenticate any request with neither a session lookup nor a user load. Once half of
+ * {@code todolist.security.token.ttl} has passed the principal is loaded again and the token
+ * re-issued, which bounds how long a changed role or a removed account keeps working.
+ * <p>
+ * Authentication is the only thing this makes instance-independent. The search index
+ * ({@link com.softserve.todolistmanager.search.SearchIndex}), the live-update streams
+ * ({@link com.softserve.todolistmanager.events.ToDoEventHub}), the {@link PrincipalCache} and the
+ * role and state snapshots are held per instance and only see changes made through it: behind a
+ * load balancer, search results lag changes made elsewhere until a restart, a page subscribed on one
+ * instance is not pushed changes made on another, and a changed name or role shows on other instances
+ * once their principal cache entry expires. Run a single instance, or route each todo's traffic to one,
+ * where those features matter.
+ */
+@Component
+@ConditionalOnProperty(name = "todolist.security.session-mode", havingValue = "token")
+public class TokenSecurityContextRepository implements SecurityContextRepository {
+    public static final String COOKIE_NAME = "AUTH_TOKEN";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final TypeReference<Map<String, Object>> CLAIMS = new TypeReference<>() {
+    };
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    Logger logger = LoggerFactory.getLogger(TokenSecurityContextRepository.class);
+
+    @Autowired
+    public TokenSecurityContextRepository(UserDetailsServiceImpl userDetailsService, ObjectMapper objectMapper,
+                                          @Value("${todolist.security.token.secret:}") String secret,
+                                          @Value("${todolist.security.token.ttl:PT30M}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            logger.warn("todolist.security.token.secret is not set, tokens are only accepted by this instance until it restarts");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        logger.info("Token sessions: search, live updates and the principal cache remain local to this instance");
+    }
+
+    @Override
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        HttpServletRequest request = requestResponseHolder.getRequest();
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        Authentication loaded = null;
+        Map<String, Object> claims = cookie == null ? null : verify(cookie.getValue());
+        if (claims != null) {
+            long issuedAt = ((Number) claims.get("iat")).longValue();
+            if (Instant.now().getEpochSecond() - issuedAt < ttl.getSeconds() / 2) {
+                loaded = authenticated(toPrincipal(claims));
+                context.setAuthentication(loaded);
+            } else {
+                UserDetailsSecurity principal = reload((String) claims.get("email"));
+                if (principal != null) {
+                    context.setAuthentication(authenticated(principal));
+                }
+            }
+        }
+        requestResponseHolder.setResponse(
+                new SaveToCookieResponseWrapper(requestResponseHolder.getResponse(), request, loaded, cookie != null));
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        SaveToCookieResponseWrapper wrapper = WebUtils.getNativeResponse(response, SaveToCookieResponseWrapper.class);
+        if (wrapper != null) {
+            wrapper.saveContext(context);
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        return cookie != null && verify(cookie.getValue()) != null;
+    }
+
+    String issue(UserDetailsSecurity principal) {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("id", principal.getId());
+        claims.put("email", principal.getEmail());
+        claims.put("firstName", principal.getFirstName());
+        claims.put("lastName", principal.getLastName());
+        claims.put("role", principal.getRoleName());
+        long now = Instant.now().getEpochSecond();
+        claims.put("iat", now);
+        claims.put("exp", now + ttl.getSeconds());
+        try {
+            String payload = encoder.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return payload + '.' + encoder.encodeToString(sign(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write the auth token", e);
+        }
+    }
+
+    // the claims of a well-formed, correctly signed and unexpired token, otherwise null
+    private Map<String, Object> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(sign(payload), decoder.decode(token.substring(dot + 1)))) {
+                return null;
+            }
+            Map<String, Object> claims = objectMapper.readValue(decoder.decode(payload), CLAIMS);
+            long expiresAt = ((Number) claims.get("exp")).longValue();
+            return Instant.now().getEpochSecond() < expiresAt ? claims : null;
+        } catch (IllegalArgumentException | IOException | ClassCastException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private UserDetailsSecurity reload(String email) {
+        try {
+            return (UserDetailsSecurity) userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static UserDetailsSecurity toPrincipal(Map<String, Object> claims) {
+        return new UserDetailsSecurity(new UserCredentials(((Number) claims.get("id")).longValue(),
+                (String) claims.get("email"), null, (String) claims.get("firstName"),
+                (String) claims.get("lastName"), (String) claims.get("role")));
+    }
+
+    private static Authentication authenticated(UserDetailsSecurity principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private final class SaveToCookieResponseWrapper extends SaveContextOnUpdateOrErrorResponseWrapper {
+        private final HttpServletRequest request;
+        private final Authentication loaded;
+        private final boolean cookieSent;
+        private boolean saved;
+
+        private SaveToCookieResponseWrapper(HttpServletResponse response, HttpServletRequest request,
+                                            Authentication loaded, boolean cookieSent) {
+            super(response, true);
+            this.request = request;
+            this.loaded = loaded;
+            this.cookieSent = cookieSent;
+        }
+
+        // called once the response commits and again at the end of the filter chain, only the first counts
+        @Override
+        protected void saveContext(SecurityContext context) {
+            if (saved) {
+                return;
+            }
+            saved = true;
+            Authentication authentication = context.getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsSecurity)) {
+                if (cookieSent) {
+                    setCookie("", Duration.ZERO);
+                }
+                return;
+            }
+            if (authentication != loaded) {
+                setCookie(issue((UserDetailsSecurity) authentication.getPrincipal()), ttl);
+            }
+        }
+
+        private void setCookie(String value, Duration maxAge) {
+            String path = request.getContextPath().isEmpty() ? "/" : request.getContextPath();
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                    .path(path)
+                    .maxAge(maxAge)
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .build();
+            addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+    }
+}
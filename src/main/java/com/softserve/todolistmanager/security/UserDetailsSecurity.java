@@ -1,5 +1,6 @@
 package com.softserve.todolistmanager.security;
 
+import com.softserve.todolistmanager.dto.UserCredentials;
 import com.softserve.todolistmanager.model.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -7,27 +8,47 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class UserDetailsSecurity implements UserDetails {
-    private final User user;
+    private final long id;
+    private final String email;
+    private final String password;
+    private final String firstName;
+    private final String lastName;
+    private final String roleName;
+    private final List<GrantedAuthority> authorities;
 
     public UserDetailsSecurity(User user) {
-        this.user = user;
+        this(new UserCredentials(user.getId(), user.getEmail(), user.getPassword(),
+                user.getFirstName(), user.getLastName(), user.getRole().getName()));
+    }
+
+    public UserDetailsSecurity(UserCredentials credentials) {
+        this.id = credentials.getId();
+        this.email = credentials.getEmail();
+        this.password = credentials.getPassword();
+        this.firstName = credentials.getFirstName();
+        this.lastName = credentials.getLastName();
+        this.roleName = credentials.getRoleName();
+        this.authorities = roleName == null
+                ? Collections.emptyList()
+                : Collections.singletonList(new SimpleGrantedAuthority(roleName));
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().getName()));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return this.user.getPassword();
+        return this.password;
     }
 
     @Override
     public String getUsername() {
-        return this.user.getEmail();
+        return this.email;
     }
 
     @Override
@@ -50,7 +71,27 @@ public class UserDetailsSecurity implements UserDetails {
         return true;
     }
 
-    public User getUser() {
-        return this.user;
+    public long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(roleName);
     }
 }
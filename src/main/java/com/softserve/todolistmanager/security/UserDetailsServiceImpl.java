@@ -1,38 +1,85 @@
 package com.softserve.todolistmanager.security;
 
+import com.softserve.todolistmanager.dto.UserCredentials;
 import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, PrincipalCache principalCache) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findAll().stream()
-                .filter(u -> u.getEmail().equals(email))
-                .findFirst().orElse(null);
-        if (user == null){
-            throw new UsernameNotFoundException("User not found");
+        UserDetailsSecurity principal = principalCache.get(email);
+        if (principal != null) {
+            return principal;
+        }
+        principal = userRepository.findCredentialsByEmail(email)
+                .map(UserDetailsSecurity::new)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        principalCache.put(email, principal);
+        return principal;
+    }
+
+    // called after a successful login whose stored hash was made with another BCrypt cost
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetailsSecurity principal = (UserDetailsSecurity) user;
+        userRepository.updatePassword(principal.getEmail(), newPassword);
+        evict(principal.getEmail());
+        return new UserDetailsSecurity(new UserCredentials(principal.getId(), principal.getEmail(), newPassword,
+                principal.getFirstName(), principal.getLastName(), principal.getRoleName()));
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            principalCache.evict(email);
         }
-        return new UserDetailsSecurity(user);
     }
 
     public String getCurrentUsername() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         return auth.getName();
     }
+
+    public UserDetailsSecurity getCurrentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UserDetailsSecurity)) {
+            return null;
+        }
+        return (UserDetailsSecurity) auth.getPrincipal();
+    }
+
+    public boolean isCurrentUserAdmin() {
+        UserDetailsSecurity principal = getCurrentPrincipal();
+        return principal != null && principal.isAdmin();
+    }
+
+    public void refreshCurrentPrincipal(User user) {
+        UserDetailsSecurity current = getCurrentPrincipal();
+        if (current == null || current.getId() != user.getId()) {
+            return;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        UserDetailsSecurity principal = new UserDetailsSecurity(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, auth.getCredentials(), principal.getAuthorities()));
+    }
 }
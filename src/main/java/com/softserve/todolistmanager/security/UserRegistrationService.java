@@ -3,6 +3,7 @@ package com.softserve.todolistmanager.security;
 import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.UserRepository;
 import com.softserve.todolistmanager.service.RoleService;
+import com.softserve.todolistmanager.service.impl.UserDirectoryRevision;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,17 +13,21 @@ public class UserRegistrationService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleService roleService;
+    private final UserDirectoryRevision directoryRevision;
 
     @Autowired
-    public UserRegistrationService(UserRepository userRepository, PasswordEncoder passwordEncoder, RoleService roleService) {
+    public UserRegistrationService(UserRepository userRepository, PasswordEncoder passwordEncoder, RoleService roleService,
+                                   UserDirectoryRevision directoryRevision) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.roleService = roleService;
+        this.directoryRevision = directoryRevision;
     }
 
     public void register(User user) {
         user.setRole(roleService.readById(2));
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
+        directoryRevision.touch();
     }
 }
@@ -9,5 +9,7 @@ public interface RoleService {
     Role readById(long id);
     Role update(Role role);
     void delete(long id);
+
+    Role getByName(String name);
     List<Role> getAll();
 }
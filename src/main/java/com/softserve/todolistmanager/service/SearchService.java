@@ -0,0 +1,8 @@
+package com.softserve.todolistmanager.service;
+
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.SearchHit;
+
+public interface SearchService {
+    KeysetPage<SearchHit> search(String query, Long userId, String after, int size);
+}
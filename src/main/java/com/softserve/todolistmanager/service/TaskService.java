@@ -1,16 +1,24 @@
 package com.softserve.todolistmanager.service;
 
+import com.softserve.todolistmanager.dto.KeysetPage;
 import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.dto.TaskFilter;
 import com.softserve.todolistmanager.model.Task;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface TaskService {
     Task create(TaskDto taskDto);
+    List<Task> createAll(long todoId, List<TaskDto> taskDtos);
     Task readById(long id);
     Task update(TaskDto taskDto);
     void delete(long id);
 
     List<Task> getAll();
     List<Task> getByTodoId(long todoId);
+    KeysetPage<Task> getPage(Long after, int size, Sort.Direction direction);
+    KeysetPage<Task> getPageByTodoId(long todoId, Long after, int size, Sort.Direction direction);
+    KeysetPage<Task> getPageByTodoId(long todoId, TaskFilter filter, Sort sort, String after, int size,
+                                     Sort.Direction direction);
 }
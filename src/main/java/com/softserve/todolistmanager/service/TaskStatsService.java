@@ -0,0 +1,8 @@
+package com.softserve.todolistmanager.service;
+
+import com.softserve.todolistmanager.dto.TaskStats;
+
+public interface TaskStatsService {
+    TaskStats getByTodoId(long todoId);
+    TaskStats getByUserId(long userId);
+}
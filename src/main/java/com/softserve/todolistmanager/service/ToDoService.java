@@ -1,6 +1,9 @@
 package com.softserve.todolistmanager.service;
 
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.RevisionStamp;
 import com.softserve.todolistmanager.model.ToDo;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -12,4 +15,13 @@ public interface ToDoService {
 
     List<ToDo> getAll();
     List<ToDo> getByUserId(long userId);
+    ToDo readByIdWithCollaborators(long id);
+    boolean isCollaborator(long id, long userId);
+    boolean addCollaborator(long id, long userId);
+    boolean removeCollaborator(long id, long userId);
+    void touch(long id);
+    RevisionStamp getRevision(long id);
+    RevisionStamp getRevisionByUserId(long userId);
+    KeysetPage<ToDo> getPage(Long after, int size, Sort.Direction direction);
+    KeysetPage<ToDo> getPageByUserId(long userId, Long after, int size, Sort.Direction direction);
 }
@@ -1,7 +1,9 @@
 package com.softserve.todolistmanager.service;
 
 
+import com.softserve.todolistmanager.dto.KeysetPage;
 import com.softserve.todolistmanager.model.User;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -11,5 +13,7 @@ public interface UserService {
     User update(long roleId, User user);
     void delete(long id);
     List<User> getAll();
+    List<User> getCollaboratorCandidates(long todoId);
+    KeysetPage<User> getPage(Long after, int size, Sort.Direction direction);
 
 }
@@ -0,0 +1,40 @@
+package com.softserve.todolistmanager.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Evicts what a service mutator changed from the second-level cache. Inside a transaction the eviction
+ * waits for the commit, so a reader in between cannot put the old row back once it has run. Evicting an
+ * entity whose class is not cached in the current session mode does nothing.
+ */
+@Component
+public class EntityCache {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public EntityCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evict(Class<?> entity, long id) {
+        afterCommit(() -> entityManagerFactory.getCache().evict(entity, id));
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
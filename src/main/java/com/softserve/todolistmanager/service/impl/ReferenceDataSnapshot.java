@@ -0,0 +1,59 @@
+package com.softserve.todolistmanager.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * All rows of a small reference table, replaced as a whole by the write path of its service. Lookups hand
+ * out copies, so that a caller changing what it got cannot change what the next caller sees, and an id or
+ * name that is not here is not in the table.
+ */
+final class ReferenceDataSnapshot<T> {
+    private final List<T> all;
+    private final Map<Long, T> byId;
+    private final Map<String, T> byName;
+    private final UnaryOperator<T> copy;
+
+    private ReferenceDataSnapshot(List<T> all, Map<Long, T> byId, Map<String, T> byName, UnaryOperator<T> copy) {
+        this.all = all;
+        this.byId = byId;
+        this.byName = byName;
+        this.copy = copy;
+    }
+
+    static <T> ReferenceDataSnapshot<T> of(List<T> entities, ToLongFunction<T> id, Function<T, String> name,
+                                           UnaryOperator<T> copy) {
+        Map<Long, T> byId = new HashMap<>();
+        Map<String, T> byName = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(id.applyAsLong(entity), entity);
+            byName.put(name.apply(entity), entity);
+        }
+        return new ReferenceDataSnapshot<>(Collections.unmodifiableList(new ArrayList<>(entities)),
+                Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName), copy);
+    }
+
+    List<T> getAll() {
+        List<T> copies = new ArrayList<>(all.size());
+        for (T entity : all) {
+            copies.add(copy.apply(entity));
+        }
+        return copies;
+    }
+
+    T getById(long id) {
+        T entity = byId.get(id);
+        return entity == null ? null : copy.apply(entity);
+    }
+
+    T getByName(String name) {
+        T entity = byName.get(name);
+        return entity == null ? null : copy.apply(entity);
+    }
+}
@@ -4,21 +4,33 @@ import com.softserve.todolistmanager.exception.NullEntityReferenceException;
 import com.softserve.todolistmanager.model.Role;
 import com.softserve.todolistmanager.repository.RoleRepository;
 import com.softserve.todolistmanager.service.RoleService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
 import java.util.List;
 
+@Timed(value = "todolist.service", histogram = true)
 @Service
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
+    private final EntityCache entityCache;
+    private volatile ReferenceDataSnapshot<Role> snapshot;
 
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, EntityCache entityCache) {
         this.roleRepository = roleRepository;
+        this.entityCache = entityCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
     }
 
     @Override
@@ -26,13 +38,18 @@ public class RoleServiceImpl implements RoleService {
         if (role == null) {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
-        return roleRepository.save(role);
+        Role created = roleRepository.save(role);
+        refresh();
+        return created;
     }
 
     @Override
     public Role readById(long id) {
-        return roleRepository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException(String.format("Role with id '%s' not found", id)));
+        Role role = snapshot().getById(id);
+        if (role == null) {
+            throw new EntityNotFoundException(String.format("Role with id '%s' not found", id));
+        }
+        return role;
     }
 
     @Override
@@ -41,17 +58,40 @@ public class RoleServiceImpl implements RoleService {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
         readById(role.getId());
-        return roleRepository.save(role);
+        Role updated = roleRepository.save(role);
+        entityCache.evict(Role.class, updated.getId());
+        refresh();
+        return updated;
     }
 
     @Override
     public void delete(long id) {
         roleRepository.delete(readById(id));
+        entityCache.evict(Role.class, id);
+        refresh();
+    }
+
+    @Override
+    public Role getByName(String name) {
+        Role role = snapshot().getByName(name);
+        if (role == null) {
+            throw new EntityNotFoundException(String.format("Role with name '%s' not found", name));
+        }
+        return role;
     }
 
     @Override
     public List<Role> getAll() {
-        List<Role> roles = roleRepository.findAll();
-        return roles.isEmpty() ? new ArrayList<>() : roles;
+        return snapshot().getAll();
+    }
+
+    private ReferenceDataSnapshot<Role> snapshot() {
+        ReferenceDataSnapshot<Role> current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    private synchronized ReferenceDataSnapshot<Role> refresh() {
+        snapshot = ReferenceDataSnapshot.of(roleRepository.findAll(Sort.by("id")), Role::getId, Role::getName, Role::new);
+        return snapshot;
     }
 }
@@ -0,0 +1,68 @@
+package com.softserve.todolistmanager.service.impl;
+
+import com.softserve.todolistmanager.dto.KeysetCursor;
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.SearchHit;
+import com.softserve.todolistmanager.repository.ToDoRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
+import com.softserve.todolistmanager.service.SearchService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Timed(value = "todolist.service", histogram = true)
+@Service
+public class SearchServiceImpl implements SearchService {
+    private final SearchIndex searchIndex;
+    private final ToDoRepository todoRepository;
+
+    @Autowired
+    public SearchServiceImpl(SearchIndex searchIndex, ToDoRepository todoRepository) {
+        this.searchIndex = searchIndex;
+        this.todoRepository = todoRepository;
+    }
+
+    @Override // userId is null for admins, who may read every todo
+    public KeysetPage<SearchHit> search(String query, Long userId, String after, int size) {
+        int pageSize = KeysetPage.clampSize(size);
+        if (query == null || query.isBlank()) {
+            return KeysetPage.empty(pageSize, Sort.Direction.ASC);
+        }
+        List<SearchHit> hits;
+        if (userId == null) {
+            hits = searchIndex.search(query, todoId -> true);
+        } else {
+            Set<Long> visible = todoRepository.getIdsByUserId(userId);
+            hits = searchIndex.search(query, visible::contains);
+        }
+        List<SearchHit> rows = new ArrayList<>(pageSize + 1);
+        int start = after == null ? 0 : indexAfter(hits, KeysetCursor.parse(after, 3));
+        for (int i = start; i < hits.size() && rows.size() <= pageSize; i++) {
+            rows.add(hits.get(i));
+        }
+        return KeysetPage.keyedBy(rows, pageSize, Sort.Direction.ASC,
+                hit -> KeysetCursor.of(hit.getScore(), hit.getType(), hit.getId()));
+    }
+
+    // the cursor is the (score, type, id) of the last hit shown rather than its rank, which shifts as soon as
+    // a better hit becomes visible; hits are ordered by score descending, then type, then id descending
+    private static int indexAfter(List<SearchHit> hits, KeysetCursor cursor) {
+        double score = cursor.getDouble(0);
+        String type = cursor.getString(1);
+        long id = cursor.getLong(2);
+        for (int i = 0; i < hits.size(); i++) {
+            SearchHit hit = hits.get(i);
+            int byScore = Double.compare(score, hit.getScore());
+            int byType = hit.getType().compareTo(type);
+            if (byScore > 0 || byScore == 0 && (byType > 0 || byType == 0 && hit.getId() < id)) {
+                return i;
+            }
+        }
+        return hits.size();
+    }
+}
@@ -4,21 +4,31 @@ import com.softserve.todolistmanager.exception.NullEntityReferenceException;
 import com.softserve.todolistmanager.model.State;
 import com.softserve.todolistmanager.repository.StateRepository;
 import com.softserve.todolistmanager.service.StateService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
+@Timed(value = "todolist.service", histogram = true)
 @Service
 public class StateServiceImpl implements StateService {
     private final StateRepository stateRepository;
+    private final EntityCache entityCache;
+    private volatile ReferenceDataSnapshot<State> snapshot;
 
     @Autowired
-    public StateServiceImpl(StateRepository stateRepository) {
+    public StateServiceImpl(StateRepository stateRepository, EntityCache entityCache) {
         this.stateRepository = stateRepository;
+        this.entityCache = entityCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
     }
 
     @Override
@@ -26,13 +36,18 @@ public class StateServiceImpl implements StateService {
         if (state == null) {
             throw new NullEntityReferenceException("State cannot be 'null'");
         }
-        return stateRepository.save(state);
+        State created = stateRepository.save(state);
+        refresh();
+        return created;
     }
 
     @Override
     public State readById(long id) {
-        return stateRepository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException(String.format("State with id '%s' not found", id)));
+        State state = snapshot().getById(id);
+        if (state == null) {
+            throw new EntityNotFoundException(String.format("State with id '%s' not found", id));
+        }
+        return state;
     }
 
     @Override
@@ -41,26 +56,40 @@ public class StateServiceImpl implements StateService {
             throw new NullEntityReferenceException("State cannot be 'null'");
         }
         readById(state.getId());
-        return stateRepository.save(state);
+        State updated = stateRepository.save(state);
+        entityCache.evict(State.class, updated.getId());
+        refresh();
+        return updated;
     }
 
     @Override
     public void delete(long id) {
         stateRepository.delete(readById(id));
+        entityCache.evict(State.class, id);
+        refresh();
     }
 
     @Override
     public State getByName(String name) {
-        Optional<State> stateByName = Optional.ofNullable(stateRepository.findByName(name));
-        if (stateByName.isEmpty()) {
+        State state = snapshot().getByName(name);
+        if (state == null) {
             throw new EntityNotFoundException(String.format("State with name '%s' not found", name));
         }
-        return stateByName.get();
+        return state;
     }
 
     @Override
     public List<State> getAll() {
-        List<State> states = stateRepository.getAll();
-        return states.isEmpty() ? new ArrayList<>() : states;
+        return snapshot().getAll();
+    }
+
+    private ReferenceDataSnapshot<State> snapshot() {
+        ReferenceDataSnapshot<State> current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    private synchronized ReferenceDataSnapshot<State> refresh() {
+        snapshot = ReferenceDataSnapshot.of(stateRepository.getAll(), State::getId, State::getName, State::new);
+        return snapshot;
     }
 }
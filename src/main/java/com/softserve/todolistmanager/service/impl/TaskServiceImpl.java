@@ -1,39 +1,111 @@
 package com.softserve.todolistmanager.service.impl;
 
+import com.softserve.todolistmanager.audit.AuditEvent;
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.dto.KeysetCursor;
+import com.softserve.todolistmanager.dto.KeysetPage;
 import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.dto.TaskFilter;
 import com.softserve.todolistmanager.dto.TaskTransformer;
+import com.softserve.todolistmanager.events.ToDoEvent;
+import com.softserve.todolistmanager.events.ToDoEventHub;
 import com.softserve.todolistmanager.exception.NullEntityReferenceException;
+import com.softserve.todolistmanager.model.Priority;
+import com.softserve.todolistmanager.model.State;
 import com.softserve.todolistmanager.model.Task;
+import com.softserve.todolistmanager.model.ToDo;
 import com.softserve.todolistmanager.repository.TaskRepository;
+import com.softserve.todolistmanager.repository.TaskSpecifications;
+import com.softserve.todolistmanager.search.SearchIndex;
 import com.softserve.todolistmanager.service.StateService;
 import com.softserve.todolistmanager.service.TaskService;
 import com.softserve.todolistmanager.service.ToDoService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+@Timed(value = "todolist.service", histogram = true)
 @Service
 public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final StateService stateService;
     private final ToDoService toDoService;
+    private final SearchIndex searchIndex;
+    private final AuditLog auditLog;
+    private final ToDoEventHub eventHub;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, StateService stateService, ToDoService toDoService) {
+    public TaskServiceImpl(TaskRepository taskRepository, StateService stateService, ToDoService toDoService,
+                           SearchIndex searchIndex, AuditLog auditLog, ToDoEventHub eventHub) {
         this.taskRepository = taskRepository;
         this.stateService = stateService;
         this.toDoService = toDoService;
+        this.searchIndex = searchIndex;
+        this.auditLog = auditLog;
+        this.eventHub = eventHub;
     }
 
+    // create, createAll and delete carry no version from the client: the counters and the revision are
+    // bumped in place and a deleted task is read again, so they are safe to run again after a concurrent write
     @Override
+    @Transactional
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 20, multiplier = 2))
     public Task create(TaskDto taskDto) {
         if (taskDto == null) {
             throw new NullEntityReferenceException("Task cannot be 'null'");
         }
-        return taskRepository.save(getCreatedTask(taskDto));
+        Task task = taskRepository.save(getCreatedTask(taskDto));
+        count(task.getTodo().getId(), task.getState(), task.getPriority(), 1);
+        toDoService.touch(task.getTodo().getId());
+        searchIndex.indexTask(task.getId(), task.getTodo().getId(), task.getName());
+        auditLog.record(AuditEvent.Action.CREATE, AuditLog.TASK, task.getId(), task.getTodo().getId());
+        eventHub.publish(ToDoEvent.TASK_CREATED, task.getTodo().getId(), task.getId());
+        return task;
+    }
+
+    @Override
+    @Transactional
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 20, multiplier = 2))
+    public List<Task> createAll(long todoId, List<TaskDto> taskDtos) {
+        if (taskDtos == null) {
+            throw new NullEntityReferenceException("Tasks cannot be 'null'");
+        }
+        ToDo todo = toDoService.readById(todoId);
+        State state = stateService.getByName("New");
+        List<Task> tasks = new ArrayList<>(taskDtos.size());
+        for (TaskDto taskDto : taskDtos) {
+            if (taskDto == null) {
+                throw new NullEntityReferenceException("Task cannot be 'null'");
+            }
+            taskDto.setId(0);
+            taskDto.setTodoId(todoId);
+            tasks.add(TaskTransformer.convertToEntity(taskDto, todo, state));
+        }
+        List<Task> createdTasks = taskRepository.saveAll(tasks);
+        Map<Priority, Long> created = createdTasks.stream().collect(
+                Collectors.groupingBy(Task::getPriority, () -> new EnumMap<>(Priority.class), Collectors.counting()));
+        created.forEach((priority, tasksCreated) -> count(todoId, state, priority, tasksCreated));
+        toDoService.touch(todoId);
+        createdTasks.forEach(task -> {
+            searchIndex.indexTask(task.getId(), todoId, task.getName());
+            auditLog.record(AuditEvent.Action.CREATE, AuditLog.TASK, task.getId(), todoId);
+            eventHub.publish(ToDoEvent.TASK_CREATED, todoId, task.getId());
+        });
+        return createdTasks;
     }
 
     @Override
@@ -43,19 +115,42 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public Task update(TaskDto taskDto) {
         if (taskDto == null) {
             throw new NullEntityReferenceException("Task cannot be 'null'");
         }
+        if (taskDto.getVersion() == null) {
+            throw new NullEntityReferenceException("Task version cannot be 'null'");
+        }
         Task updatedTask = getUpdatedTask(taskDto);
         Task taskFromDB = readById(updatedTask.getId());
+        State oldState = taskFromDB.getState();
+        Priority oldPriority = taskFromDB.getPriority();
         updatedTask.setTodo(taskFromDB.getTodo());
-        return taskRepository.save(updatedTask);
+        Task savedTask = taskRepository.save(updatedTask);
+        toDoService.touch(savedTask.getTodo().getId());
+        if (oldState.getId() != savedTask.getState().getId() || oldPriority != savedTask.getPriority()) {
+            count(savedTask.getTodo().getId(), oldState, oldPriority, -1);
+            count(savedTask.getTodo().getId(), savedTask.getState(), savedTask.getPriority(), 1);
+        }
+        searchIndex.indexTask(savedTask.getId(), savedTask.getTodo().getId(), savedTask.getName());
+        auditLog.record(AuditEvent.Action.UPDATE, AuditLog.TASK, savedTask.getId(), savedTask.getTodo().getId());
+        eventHub.publish(ToDoEvent.TASK_UPDATED, savedTask.getTodo().getId(), savedTask.getId());
+        return savedTask;
     }
 
     @Override
+    @Transactional
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 20, multiplier = 2))
     public void delete(long id) {
-        taskRepository.delete(readById(id));
+        Task task = readById(id);
+        taskRepository.delete(task);
+        count(task.getTodo().getId(), task.getState(), task.getPriority(), -1);
+        toDoService.touch(task.getTodo().getId());
+        searchIndex.removeTask(id);
+        auditLog.record(AuditEvent.Action.DELETE, AuditLog.TASK, id, task.getTodo().getId());
+        eventHub.publish(ToDoEvent.TASK_DELETED, task.getTodo().getId(), id);
     }
 
     @Override
@@ -70,6 +165,58 @@ public class TaskServiceImpl implements TaskService {
         return tasks.isEmpty() ? new ArrayList<>() : tasks;
     }
 
+    @Override
+    public KeysetPage<Task> getPage(Long after, int size, Sort.Direction direction) {
+        int pageSize = KeysetPage.clampSize(size);
+        long cursor = KeysetPage.startCursor(after, direction);
+        Pageable limit = KeysetPage.limit(pageSize, direction);
+        List<Task> tasks = direction.isAscending()
+                ? taskRepository.findPageAfter(cursor, limit)
+                : taskRepository.findPageBefore(cursor, limit);
+        return KeysetPage.of(tasks, pageSize, direction, Task::getId);
+    }
+
+    @Override
+    public KeysetPage<Task> getPageByTodoId(long todoId, Long after, int size, Sort.Direction direction) {
+        int pageSize = KeysetPage.clampSize(size);
+        long cursor = KeysetPage.startCursor(after, direction);
+        Pageable limit = KeysetPage.limit(pageSize, direction);
+        List<Task> tasks = direction.isAscending()
+                ? taskRepository.findPageByTodoIdAfter(todoId, cursor, limit)
+                : taskRepository.findPageByTodoIdBefore(todoId, cursor, limit);
+        return KeysetPage.of(tasks, pageSize, direction, Task::getId);
+    }
+
+    @Override
+    public KeysetPage<Task> getPageByTodoId(long todoId, TaskFilter filter, Sort sort, String after, int size,
+                                            Sort.Direction direction) {
+        if (filter.isEmpty() && sort.isUnsorted()) {
+            return getPageByTodoId(todoId, after == null ? null : KeysetCursor.parse(after, 1).getLong(0),
+                    size, direction);
+        }
+        int pageSize = KeysetPage.clampSize(size);
+        Sort entitySort = TaskSpecifications.toEntitySort(sort, direction);
+        Specification<Task> specification = TaskSpecifications.inTodo(todoId).and(TaskSpecifications.matching(filter));
+        if (after != null) {
+            specification = specification.and(TaskSpecifications.after(after, entitySort));
+        }
+        List<Task> tasks = taskRepository.findPage(specification, entitySort, pageSize + 1);
+        return KeysetPage.keyedBy(tasks, pageSize, direction, task -> TaskSpecifications.cursorOf(task, entitySort));
+    }
+
+    // keeps the task_counters summary row of (todo, state, priority) in step, creating it on first use;
+    // when a concurrent first task of the same kind creates the row first, the insert yields to it and
+    // the update is applied to that row instead
+    private void count(long todoId, State state, Priority priority, long delta) {
+        if (state == null || priority == null) {
+            return;
+        }
+        if (taskRepository.addToCounter(todoId, state.getId(), priority.name(), delta) == 0 && delta > 0
+                && taskRepository.insertCounter(todoId, state.getId(), priority.name(), delta) == 0) {
+            taskRepository.addToCounter(todoId, state.getId(), priority.name(), delta);
+        }
+    }
+
     private Task getCreatedTask(TaskDto taskDto) {
         return TaskTransformer.convertToEntity(
                 taskDto,
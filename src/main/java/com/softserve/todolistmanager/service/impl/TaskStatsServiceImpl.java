@@ -0,0 +1,66 @@
+package com.softserve.todolistmanager.service.impl;
+
+import com.softserve.todolistmanager.dto.TaskStats;
+import com.softserve.todolistmanager.model.Priority;
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.repository.TaskRepository;
+import com.softserve.todolistmanager.service.StateService;
+import com.softserve.todolistmanager.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the task_counters summary rows that {@link TaskServiceImpl} keeps in step with every task
+ * change, so a todo costs at most one row per state and priority however many tasks it holds.
+ */
+@Timed(value = "todolist.service", histogram = true)
+@Service
+public class TaskStatsServiceImpl implements TaskStatsService {
+    private final TaskRepository taskRepository;
+    private final StateService stateService;
+
+    @Autowired
+    public TaskStatsServiceImpl(TaskRepository taskRepository, StateService stateService) {
+        this.taskRepository = taskRepository;
+        this.stateService = stateService;
+    }
+
+    @Override
+    public TaskStats getByTodoId(long todoId) {
+        return getStats(taskRepository.getCountersByTodoId(todoId));
+    }
+
+    @Override
+    public TaskStats getByUserId(long userId) {
+        return getStats(taskRepository.getCountersByOwnerId(userId));
+    }
+
+    private TaskStats getStats(List<Object[]> counters) {
+        Map<Long, String> stateNames = new LinkedHashMap<>();
+        Map<String, Long> byState = new LinkedHashMap<>();
+        for (State state : stateService.getAll()) {
+            stateNames.put(state.getId(), state.getName());
+            byState.put(state.getName(), 0L);
+        }
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority.name(), 0L);
+        }
+        long total = 0;
+        for (Object[] counter : counters) {
+            long count = ((Number) counter[2]).longValue();
+            String state = stateNames.get(((Number) counter[0]).longValue());
+            if (state != null) {
+                byState.merge(state, count, Long::sum);
+            }
+            byPriority.merge((String) counter[1], count, Long::sum);
+            total += count;
+        }
+        return new TaskStats(total, byState, byPriority);
+    }
+}
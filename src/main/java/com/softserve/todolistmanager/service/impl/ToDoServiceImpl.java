@@ -1,37 +1,73 @@
 package com.softserve.todolistmanager.service.impl;
 
+import com.softserve.todolistmanager.audit.AuditEvent;
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.dto.KeysetPage;
+import com.softserve.todolistmanager.dto.RevisionStamp;
+import com.softserve.todolistmanager.events.ToDoEvent;
+import com.softserve.todolistmanager.events.ToDoEventHub;
 import com.softserve.todolistmanager.exception.NullEntityReferenceException;
 import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.ToDoRepository;
+import com.softserve.todolistmanager.repository.ToDoRevisionRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
 import com.softserve.todolistmanager.service.ToDoService;
 import com.softserve.todolistmanager.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@Timed(value = "todolist.service", histogram = true)
 @Service
 public class ToDoServiceImpl implements ToDoService {
 
     private final ToDoRepository todoRepository;
+    private final ToDoRevisionRepository revisionRepository;
     private final UserService userService;
+    private final SearchIndex searchIndex;
+    private final AuditLog auditLog;
+    private final ToDoEventHub eventHub;
+    private final EntityCache entityCache;
 
     @Autowired
-    public ToDoServiceImpl(ToDoRepository todoRepository, UserService userService) {
+    public ToDoServiceImpl(ToDoRepository todoRepository, ToDoRevisionRepository revisionRepository,
+                           UserService userService, SearchIndex searchIndex, AuditLog auditLog, ToDoEventHub eventHub,
+                           EntityCache entityCache) {
         this.todoRepository = todoRepository;
+        this.revisionRepository = revisionRepository;
         this.userService = userService;
+        this.searchIndex = searchIndex;
+        this.auditLog = auditLog;
+        this.eventHub = eventHub;
+        this.entityCache = entityCache;
     }
 
     @Override
+    @Transactional
     public ToDo create(ToDo toDo) {
         if (toDo == null) {
             throw new NullEntityReferenceException("ToDo cannot be 'null'");
         }
         toDo.setCreatedAt(LocalDateTime.now());
-        return todoRepository.save(toDo);
+        // the revision insert below declares only its own table, so it no longer flushes the todo first
+        ToDo createdToDo = todoRepository.saveAndFlush(toDo);
+        revisionRepository.insert(createdToDo.getId(), createdToDo.getCreatedAt());
+        searchIndex.indexTodo(createdToDo.getId(), createdToDo.getTitle());
+        auditLog.record(AuditEvent.Action.CREATE, AuditLog.TODO, createdToDo.getId(), createdToDo.getId());
+        return createdToDo;
     }
 
     @Override
@@ -41,19 +77,92 @@ public class ToDoServiceImpl implements ToDoService {
     }
 
     @Override
+    public ToDo readByIdWithCollaborators(long id) {
+        return todoRepository.findWithCollaboratorsById(id).orElseThrow(
+                () -> new EntityNotFoundException(String.format("ToDo with id '%s' not found", id)));
+    }
+
+    @Override
+    @Transactional
     public ToDo update(ToDo toDo) {
         if (toDo == null) {
             throw new NullEntityReferenceException("ToDo cannot be 'null'");
         }
         ToDo toDoFromDB = readById(toDo.getId());
         toDo.setOwner(toDoFromDB.getOwner());
+        toDo.setCreatedAt(toDoFromDB.getCreatedAt());
         toDo.setCollaborators(toDoFromDB.getCollaborators());
-        return todoRepository.save(toDo);
+        ToDo updatedToDo = todoRepository.save(toDo);
+        entityCache.evict(ToDo.class, updatedToDo.getId());
+        touch(updatedToDo.getId());
+        searchIndex.indexTodo(updatedToDo.getId(), updatedToDo.getTitle());
+        auditLog.record(AuditEvent.Action.UPDATE, AuditLog.TODO, updatedToDo.getId(), updatedToDo.getId());
+        eventHub.publish(ToDoEvent.TODO_UPDATED, updatedToDo.getId(), updatedToDo.getId());
+        return updatedToDo;
+    }
+
+    @Override
+    public boolean isCollaborator(long id, long userId) {
+        return todoRepository.isCollaborator(id, userId);
+    }
+
+    @Override
+    @Transactional
+    @Retryable(value = {DataIntegrityViolationException.class, ObjectOptimisticLockingFailureException.class},
+            maxAttempts = 3, backoff = @Backoff(delay = 20, multiplier = 2))
+    public boolean addCollaborator(long id, long userId) {
+        ToDo todo = readById(id);
+        User collaborator = userService.readById(userId);
+        if (todoRepository.insertCollaborator(todo.getId(), collaborator.getId()) == 0) {
+            return false;
+        }
+        touch(id);
+        auditLog.record(AuditEvent.Action.CREATE, AuditLog.COLLABORATOR, userId, id);
+        eventHub.publish(ToDoEvent.COLLABORATOR_ADDED, id, userId);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 20, multiplier = 2))
+    public boolean removeCollaborator(long id, long userId) {
+        ToDo todo = readById(id);
+        if (todoRepository.deleteCollaborator(todo.getId(), userId) == 0) {
+            return false;
+        }
+        touch(id);
+        auditLog.record(AuditEvent.Action.DELETE, AuditLog.COLLABORATOR, userId, id);
+        eventHub.publish(ToDoEvent.COLLABORATOR_REMOVED, id, userId);
+        return true;
     }
 
     @Override
+    @Transactional
+    public void touch(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        if (revisionRepository.touch(id, now) == 0) {
+            revisionRepository.insert(id, now);
+        }
+    }
+
+    @Override
+    public RevisionStamp getRevision(long id) {
+        return revisionRepository.getStampByTodoId(id);
+    }
+
+    @Override
+    public RevisionStamp getRevisionByUserId(long userId) {
+        return revisionRepository.getStampByUserId(userId);
+    }
+
+    @Override
+    @Transactional
     public void delete(long id) {
         todoRepository.delete(readById(id));
+        entityCache.evict(ToDo.class, id);
+        searchIndex.removeTodo(id);
+        auditLog.record(AuditEvent.Action.DELETE, AuditLog.TODO, id, id);
+        eventHub.close(id);
     }
 
     @Override
@@ -67,4 +176,25 @@ public class ToDoServiceImpl implements ToDoService {
         List<ToDo> todos = todoRepository.getByUserId(userId);
         return todos.isEmpty() ? new ArrayList<>() : todos;
     }
+
+    @Override
+    public KeysetPage<ToDo> getPage(Long after, int size, Sort.Direction direction) {
+        int pageSize = KeysetPage.clampSize(size);
+        long cursor = KeysetPage.startCursor(after, direction);
+        Pageable limit = KeysetPage.limit(pageSize, direction);
+        List<ToDo> todos = direction.isAscending()
+                ? todoRepository.findPageAfter(cursor, limit)
+                : todoRepository.findPageBefore(cursor, limit);
+        return KeysetPage.of(todos, pageSize, direction, ToDo::getId);
+    }
+
+    @Override
+    public KeysetPage<ToDo> getPageByUserId(long userId, Long after, int size, Sort.Direction direction) {
+        int pageSize = KeysetPage.clampSize(size);
+        long cursor = KeysetPage.startCursor(after, direction);
+        List<ToDo> todos = direction.isAscending()
+                ? todoRepository.getPageByUserIdAfter(userId, cursor, pageSize + 1)
+                : todoRepository.getPageByUserIdBefore(userId, cursor, pageSize + 1);
+        return KeysetPage.of(todos, pageSize, direction, ToDo::getId);
+    }
 }
@@ -0,0 +1,26 @@
+package com.softserve.todolistmanager.service.impl;
+
+import com.softserve.todolistmanager.repository.UserDirectoryStampRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bumps the user directory stamp on every user create, update or delete. Pages that list user names
+ * or collaborator candidates read the stamp with their own revision, so a cached copy never outlives a
+ * change to the user directory, whichever instance made it.
+ */
+@Component
+public class UserDirectoryRevision {
+    private final UserDirectoryStampRepository stampRepository;
+
+    @Autowired
+    public UserDirectoryRevision(UserDirectoryStampRepository stampRepository) {
+        this.stampRepository = stampRepository;
+    }
+
+    public void touch() {
+        stampRepository.touch(LocalDateTime.now());
+    }
+}
@@ -1,23 +1,34 @@
 package com.softserve.todolistmanager.service.impl;
 
+import com.softserve.todolistmanager.audit.AuditEvent;
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.dto.KeysetPage;
 import com.softserve.todolistmanager.exception.NullEntityReferenceException;
+import com.softserve.todolistmanager.model.ToDo;
 import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.UserRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
 import com.softserve.todolistmanager.security.UserDetailsSecurity;
 import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
 import com.softserve.todolistmanager.service.RoleService;
 import com.softserve.todolistmanager.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
 
+@Timed(value = "todolist.service", histogram = true)
 @Service("userServiceImpl")
 public class UserServiceImpl implements UserService, UserDetailsService {
 
@@ -25,13 +36,23 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     private final RoleService roleService;
     private final PasswordEncoder passwordEncoder;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserDirectoryRevision directoryRevision;
+    private final SearchIndex searchIndex;
+    private final AuditLog auditLog;
+    private final EntityCache entityCache;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, RoleService roleService, PasswordEncoder passwordEncoder, UserDetailsServiceImpl userDetailsService) {
+    public UserServiceImpl(UserRepository userRepository, RoleService roleService, PasswordEncoder passwordEncoder,
+                           UserDetailsServiceImpl userDetailsService, UserDirectoryRevision directoryRevision,
+                           SearchIndex searchIndex, AuditLog auditLog, EntityCache entityCache) {
         this.userRepository = userRepository;
         this.roleService = roleService;
         this.passwordEncoder = passwordEncoder;
         this.userDetailsService = userDetailsService;
+        this.directoryRevision = directoryRevision;
+        this.searchIndex = searchIndex;
+        this.auditLog = auditLog;
+        this.entityCache = entityCache;
     }
 
     @Override
@@ -41,7 +62,10 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         }
         user.setRole(roleService.readById(2));
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User createdUser = userRepository.save(user);
+        directoryRevision.touch();
+        auditLog.record(AuditEvent.Action.CREATE, AuditLog.USER, createdUser.getId(), null);
+        return createdUser;
     }
 
     @Override
@@ -56,18 +80,40 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             throw new NullEntityReferenceException("User cannot be 'null'");
         }
         User oldUser = readById(user.getId());
-        if (userRepository.findByEmail(userDetailsService.getCurrentUsername()).getRole().getName().equals("ADMIN")) {
+        if (userDetailsService.isCurrentUserAdmin()) {
             user.setRole(roleService.readById(roleId));
         } else {
             user.setRole(oldUser.getRole());
         }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        // the form never carries the stored hash, so only a blank field keeps the current password
+        if (!StringUtils.hasText(user.getPassword())) {
+            user.setPassword(oldUser.getPassword());
+        } else {
+            user.setPassword(passwordEncoder.encode(user.getPassword()));
+        }
+        userDetailsService.evict(oldUser.getEmail());
+        User updatedUser = userRepository.save(user);
+        entityCache.evict(User.class, updatedUser.getId());
+        userDetailsService.evict(updatedUser.getEmail());
+        userDetailsService.refreshCurrentPrincipal(updatedUser);
+        directoryRevision.touch();
+        auditLog.record(AuditEvent.Action.UPDATE, AuditLog.USER, updatedUser.getId(), null);
+        return updatedUser;
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        userRepository.delete(readById(id));
+        User user = readById(id);
+        user.getMyTodos().forEach(todo -> {
+            searchIndex.removeTodo(todo.getId());
+            entityCache.evict(ToDo.class, todo.getId());
+        });
+        userRepository.delete(user);
+        entityCache.evict(User.class, id);
+        userDetailsService.evict(user.getEmail());
+        directoryRevision.touch();
+        auditLog.record(AuditEvent.Action.DELETE, AuditLog.USER, id, null);
     }
 
     @Override
@@ -76,6 +122,23 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         return users.isEmpty() ? new ArrayList<>() : users;
     }
 
+    @Override
+    public List<User> getCollaboratorCandidates(long todoId) {
+        List<User> users = userRepository.findCollaboratorCandidates(todoId);
+        return users.isEmpty() ? new ArrayList<>() : users;
+    }
+
+    @Override
+    public KeysetPage<User> getPage(Long after, int size, Sort.Direction direction) {
+        int pageSize = KeysetPage.clampSize(size);
+        long cursor = KeysetPage.startCursor(after, direction);
+        Pageable limit = KeysetPage.limit(pageSize, direction);
+        List<User> users = direction.isAscending()
+                ? userRepository.findPageAfter(cursor, limit)
+                : userRepository.findPageBefore(cursor, limit);
+        return KeysetPage.of(users, pageSize, direction, User::getId);
+    }
+
     @Override // method for security from UserDetailsService implementation with Email
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         try {
@@ -0,0 +1,3 @@
+CREATE SEQUENCE todo_revision_seq START WITH 1 INCREMENT BY 1;
+
+UPDATE todo_revisions SET revision = nextval('todo_revision_seq');
@@ -0,0 +1,67 @@
+CREATE TABLE roles (
+    id bigint generated by default as identity,
+    name varchar(255) NOT NULL,
+    CONSTRAINT PK_role_id PRIMARY KEY (id),
+    CONSTRAINT UK_role_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id bigint generated by default as identity,
+    email varchar(255) NOT NULL,
+    first_name varchar(255) NOT NULL,
+    last_name varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    role_id bigint,
+    CONSTRAINT PK_user_id PRIMARY KEY (id),
+    CONSTRAINT UK_user_email UNIQUE (email),
+    CONSTRAINT FK_role_user FOREIGN KEY (role_id) REFERENCES roles(id)
+);
+
+CREATE INDEX IX_users_role_id ON users (role_id);
+
+CREATE TABLE states (
+    id bigint generated by default as identity,
+    name varchar(255) NOT NULL,
+    CONSTRAINT PK_state_id PRIMARY KEY (id),
+    CONSTRAINT UK_state_name UNIQUE (name)
+);
+
+CREATE TABLE todos (
+    id bigint generated by default as identity,
+    created_at timestamp NOT NULL,
+    title varchar(255) NOT NULL,
+    owner_id bigint,
+    CONSTRAINT PK_todos_id PRIMARY KEY (id),
+    CONSTRAINT UK_todo_title UNIQUE (title),
+    CONSTRAINT FK_user_todo FOREIGN KEY (owner_id) REFERENCES users(id)
+);
+
+CREATE INDEX IX_todos_owner_id ON todos (owner_id, id);
+
+CREATE TABLE tasks (
+    id bigint generated by default as identity,
+    name varchar(255) NOT NULL,
+    priority varchar(255),
+    state_id bigint,
+    todo_id bigint,
+    CONSTRAINT PK_task_id PRIMARY KEY (id),
+    CONSTRAINT FK_state_task FOREIGN KEY (state_id) REFERENCES states(id),
+    CONSTRAINT FK_todo_task FOREIGN KEY (todo_id) REFERENCES todos(id)
+);
+
+CREATE INDEX IX_tasks_todo_id ON tasks (todo_id, id);
+CREATE INDEX IX_tasks_state_id ON tasks (state_id);
+
+CREATE TABLE todo_collaborator (
+    todo_id bigint NOT NULL,
+    collaborator_id bigint NOT NULL,
+    CONSTRAINT PK_todo_collaborator PRIMARY KEY (todo_id, collaborator_id),
+    CONSTRAINT FK_collaborator FOREIGN KEY (collaborator_id) REFERENCES users(id),
+    CONSTRAINT FK_todo FOREIGN KEY (todo_id) REFERENCES todos(id)
+);
+
+CREATE INDEX IX_todo_collaborator_collaborator_id ON todo_collaborator (collaborator_id, todo_id);
+
+CREATE SEQUENCE user_seq START WITH 4 INCREMENT BY 50;
+CREATE SEQUENCE todo_seq START WITH 8 INCREMENT BY 50;
+CREATE SEQUENCE task_seq START WITH 4 INCREMENT BY 50;
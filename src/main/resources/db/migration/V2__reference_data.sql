@@ -0,0 +1,10 @@
+INSERT INTO roles (id, name) VALUES (1, 'ADMIN');
+INSERT INTO roles (id, name) VALUES (2, 'USER');
+
+INSERT INTO states (id, name) VALUES (1, 'New');
+INSERT INTO states (id, name) VALUES (2, 'Doing');
+INSERT INTO states (id, name) VALUES (3, 'Verify');
+INSERT INTO states (id, name) VALUES (4, 'Done');
+
+ALTER TABLE roles ALTER COLUMN id RESTART WITH 3;
+ALTER TABLE states ALTER COLUMN id RESTART WITH 5;
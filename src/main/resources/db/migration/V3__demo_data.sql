@@ -1,15 +1,7 @@
-INSERT INTO roles (id, name) VALUES (1, 'ADMIN');
-INSERT INTO roles (id, name) VALUES (2, 'USER');
-
 INSERT INTO users (id, first_name, last_name, email, password, role_id) VALUES (1, 'Mike', 'Brown', 'mike@mail.com', '$2a$10$CdEJ2PKXgUCIwU4pDQWICuiPjxb1lysoX7jrN.Y4MTMoY9pjfPALO', 1);
 INSERT INTO users (id, first_name, last_name, email, password, role_id) VALUES (2, 'Nick', 'Green', 'nick@mail.com', '$2a$10$CJgEoobU2gm0euD4ygru4ukBf9g8fYnPrMvYk.q0GMfOcIDtUhEwC', 2);
 INSERT INTO users (id, first_name, last_name, email, password, role_id) VALUES (3, 'Nora', 'White', 'nora@mail.com', '$2a$10$yYQaJrHzjOgD5wWCyelp0e1Yv1KEKeqUlYfLZQ1OQvyUrnEcX/rOy', 2);
 
-INSERT INTO states (id, name) VALUES (1, 'New');
-INSERT INTO states (id, name) VALUES (2, 'Doing');
-INSERT INTO states (id, name) VALUES (3, 'Verify');
-INSERT INTO states (id, name) VALUES (4, 'Done');
-
 INSERT INTO todos (id, title, created_at, owner_id) VALUES (1, 'Mike''s To-Do #1', '2020-09-16 14:00:04.810221', 1);
 INSERT INTO todos (id, title, created_at, owner_id) VALUES (2, 'Mike''s To-Do #2', '2020-09-16 14:00:11.480271', 1);
 INSERT INTO todos (id, title, created_at, owner_id) VALUES (3, 'Mike''s To-Do #3', '2020-09-16 14:00:16.351238', 1);
@@ -0,0 +1,10 @@
+CREATE TABLE todo_revisions (
+    todo_id bigint NOT NULL,
+    revision bigint NOT NULL,
+    modified_at timestamp NOT NULL,
+    CONSTRAINT PK_todo_revisions PRIMARY KEY (todo_id),
+    CONSTRAINT FK_todo_revision FOREIGN KEY (todo_id) REFERENCES todos(id) ON DELETE CASCADE
+);
+
+INSERT INTO todo_revisions (todo_id, revision, modified_at)
+SELECT id, 1, created_at FROM todos;
@@ -0,0 +1,3 @@
+ALTER TABLE users ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE todos ADD COLUMN version bigint NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version bigint NOT NULL DEFAULT 0;
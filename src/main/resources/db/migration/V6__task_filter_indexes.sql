@@ -0,0 +1,6 @@
+ALTER TABLE tasks ADD COLUMN priority_rank integer NOT NULL DEFAULT 0;
+UPDATE tasks SET priority_rank = CASE priority WHEN 'MEDIUM' THEN 1 WHEN 'HIGH' THEN 2 ELSE 0 END;
+
+CREATE INDEX IX_tasks_todo_priority ON tasks (todo_id, priority_rank, id);
+CREATE INDEX IX_tasks_todo_state_priority ON tasks (todo_id, state_id, priority_rank, id);
+CREATE INDEX IX_tasks_todo_name ON tasks (todo_id, name, id);
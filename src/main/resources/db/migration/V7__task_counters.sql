@@ -0,0 +1,17 @@
+CREATE TABLE task_counters (
+    todo_id bigint NOT NULL,
+    owner_id bigint NOT NULL,
+    state_id bigint NOT NULL,
+    priority varchar(255) NOT NULL,
+    task_count bigint NOT NULL,
+    CONSTRAINT PK_task_counters PRIMARY KEY (todo_id, state_id, priority),
+    CONSTRAINT FK_task_counter_todo FOREIGN KEY (todo_id) REFERENCES todos(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IX_task_counters_owner_id ON task_counters (owner_id);
+
+INSERT INTO task_counters (todo_id, owner_id, state_id, priority, task_count)
+SELECT t.todo_id, d.owner_id, t.state_id, t.priority, count(*)
+FROM tasks t INNER JOIN todos d ON d.id = t.todo_id
+WHERE t.priority IS NOT NULL
+GROUP BY t.todo_id, d.owner_id, t.state_id, t.priority;
@@ -0,0 +1,12 @@
+CREATE TABLE audit_log (
+    id bigint generated by default as identity,
+    occurred_at timestamp NOT NULL,
+    actor_id bigint,
+    action varchar(16) NOT NULL,
+    entity varchar(32) NOT NULL,
+    entity_id bigint NOT NULL,
+    todo_id bigint,
+    CONSTRAINT PK_audit_log_id PRIMARY KEY (id)
+);
+
+CREATE INDEX IX_audit_log_entity ON audit_log (entity, entity_id);
@@ -0,0 +1,8 @@
+CREATE TABLE user_directory_revision (
+    id integer NOT NULL,
+    revision bigint NOT NULL,
+    modified_at timestamp NOT NULL,
+    CONSTRAINT PK_user_directory_revision PRIMARY KEY (id)
+);
+
+INSERT INTO user_directory_revision (id, revision, modified_at) VALUES (1, 1, CURRENT_TIMESTAMP);
@@ -0,0 +1,3 @@
+-- IX_tasks_todo_name follows the collation and so serves the name sort, but a LIKE 'prefix%' filter
+-- can only range-scan an index compared character by character
+CREATE INDEX IX_tasks_todo_name_prefix ON tasks (todo_id, name varchar_pattern_ops, id);
@@ -0,0 +1,87 @@
+package com.softserve.todolistmanager.config;
+
+import com.softserve.todolistmanager.metrics.QueryCounter;
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.model.User;
+import com.softserve.todolistmanager.repository.StateRepository;
+import com.softserve.todolistmanager.service.StateService;
+import com.softserve.todolistmanager.service.ToDoService;
+import com.softserve.todolistmanager.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CacheConfigTests {
+
+    @Autowired
+    private ToDoService toDoService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private StateService stateService;
+    @Autowired
+    private StateRepository stateRepository;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void todoIsReadFromTheCacheUntilChanged() {
+        ToDo todo = new ToDo();
+        todo.setTitle("Nick's cached To-Do");
+        todo.setOwner(userService.readById(2));
+        long id = toDoService.create(todo).getId();
+        try {
+            toDoService.readById(id);
+            assertEquals(0, statements(() -> toDoService.readById(id)));
+            assertEquals(0, statements(() -> userService.readById(2)));
+
+            ToDo changed = toDoService.readById(id);
+            changed.setTitle("Nick's renamed To-Do");
+            toDoService.update(changed);
+
+            assertFalse(entityManagerFactory.getCache().contains(ToDo.class, id));
+            assertEquals(1, statements(() -> toDoService.readById(id)));
+            assertEquals("Nick's renamed To-Do", toDoService.readById(id).getTitle());
+        } finally {
+            toDoService.delete(id);
+        }
+        assertFalse(entityManagerFactory.getCache().contains(ToDo.class, id));
+        assertTrue(entityManagerFactory.getCache().contains(User.class, 2L));
+    }
+
+    @Test
+    void renamedStateIsCachedAgainOnlyFromTheNewRow() {
+        State state = new State();
+        state.setName("Cached");
+        long id = stateService.create(state).getId();
+        try {
+            assertTrue(entityManagerFactory.getCache().contains(State.class, id));
+
+            State renamed = new State(stateService.readById(id));
+            renamed.setName("Renamed");
+            stateService.update(renamed);
+
+            assertEquals(0, statements(() -> stateRepository.findById(id)));
+            assertEquals("Renamed", stateRepository.findById(id).orElseThrow().getName());
+        } finally {
+            stateService.delete(id);
+        }
+        assertFalse(entityManagerFactory.getCache().contains(State.class, id));
+    }
+
+    private int statements(Runnable lookup) {
+        queryCounter.start();
+        lookup.run();
+        return queryCounter.stop();
+    }
+}
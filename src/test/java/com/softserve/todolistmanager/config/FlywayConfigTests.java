@@ -0,0 +1,65 @@
+package com.softserve.todolistmanager.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FlywayConfigTests {
+
+    @Test
+    void emptyDatabaseIsMigratedWhenRequested() {
+        DriverManagerDataSource dataSource = newDatabase();
+
+        startup(dataSource, true);
+
+        assertEquals(2, count(dataSource, "select count(*) from roles"));
+    }
+
+    @Test
+    void startupOnlyValidatesByDefault() {
+        DriverManagerDataSource dataSource = newDatabase();
+
+        assertThrows(FlywayException.class, () -> startup(dataSource, false));
+
+        startup(dataSource, true);
+        startup(dataSource, false);
+        assertEquals(0, count(dataSource, "select count(*) from flyway_schema_history where success = false"));
+    }
+
+    @Test
+    void databaseCreatedBeforeMigrationsIsLeftUntouched() {
+        DriverManagerDataSource dataSource = newDatabase();
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/pre-flyway-schema.sql")).execute(dataSource);
+        new JdbcTemplate(dataSource).update("insert into roles (id, name) values (1, 'ADMIN')");
+
+        assertThrows(IllegalStateException.class, () -> startup(dataSource, true));
+
+        assertEquals(1, count(dataSource, "select count(*) from roles"));
+    }
+
+    private void startup(DriverManagerDataSource dataSource, boolean migrateOnStartup) {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load();
+        new FlywayConfig().flywayMigrationStrategy(migrateOnStartup).migrate(flyway);
+    }
+
+    private static DriverManagerDataSource newDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static int count(DriverManagerDataSource dataSource, String sql) {
+        return new JdbcTemplate(dataSource).queryForObject(sql, Integer.class);
+    }
+}
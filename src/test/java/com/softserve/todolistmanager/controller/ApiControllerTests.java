@@ -0,0 +1,393 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.audit.AuditEvent;
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.repository.TaskRepository;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ApiControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private AuditLog auditLog;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void anonymousRequestIsUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/states"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void pageCarriesCursorAndSelectedFieldsOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/todos/1/tasks")
+                        .param("size", "2")
+                        .param("fields", "id,name")
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[0].name").exists())
+                .andExpect(jsonPath("$.items[0].priority").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString());
+    }
+
+    @Test
+    public void unchangedResourceAnswersNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/todos/1")
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/todos/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG))
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void foreignTodoIsForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/todos/7")
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.status").value(403));
+    }
+
+    @Test
+    public void invalidTaskIsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/todos/1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"\",\"priority\":\"LOW\"}")
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void malformedRequestParametersAreRejected() throws Exception {
+        UserDetails admin = userDetailsService.loadUserByUsername("mike@mail.com");
+        mockMvc.perform(get("/api/v1/users").param("direction", "foo").with(user(admin)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.path").value("/api/v1/users"));
+        mockMvc.perform(get("/api/v1/todos/1/tasks").param("sort", "foo").with(user(admin)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+        mockMvc.perform(get("/api/v1/todos/1/tasks").param("priority", "URGENT").with(user(admin)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+        mockMvc.perform(get("/api/v1/todos/abc").with(user(admin)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    public void staleTaskVersionIsConflict() throws Exception {
+        mockMvc.perform(put("/api/v1/todos/1/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stale task\",\"priority\":\"LOW\",\"stateId\":1,\"version\":99}")
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    public void updateWithoutVersionIsRejected() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        mockMvc.perform(put("/api/v1/todos/1/tasks/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Unversioned task\",\"priority\":\"LOW\",\"stateId\":1}")
+                        .with(user(owner)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/todos/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Unversioned To-Do\"}")
+                        .with(user(owner)))
+                .andExpect(status().isBadRequest());
+        assertNotEquals("Unversioned To-Do",
+                jdbcTemplate.queryForObject("select title from todos where id = 1", String.class));
+    }
+
+    @Test
+    public void collaboratorMembershipChangesOneRow() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        mockMvc.perform(put("/api/v1/todos/3/collaborators/1002").with(user(owner)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(put("/api/v1/todos/3/collaborators/1002").with(user(owner)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(put("/api/v1/todos/3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Mike's shared To-Do\",\"version\":" + todoVersion(3) + "}")
+                        .with(user(owner)))
+                .andExpect(status().isOk());
+        assertEquals(1, collaboratorRows(3, 1002));
+        mockMvc.perform(get("/api/v1/todos/3/collaborators/1002").with(user(owner)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/v1/todos/3/collaborators/1002").with(user(owner)))
+                .andExpect(status().isNoContent());
+        assertEquals(0, collaboratorRows(3, 1002));
+        mockMvc.perform(get("/api/v1/todos/3/collaborators/1002").with(user(owner)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void filteredTaskPagesFollowTheSortWithoutGapsOrRepeats() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        String cursor = null;
+        do {
+            String body = mockMvc.perform(get("/api/v1/todos/1/tasks")
+                            .param("priority", "HIGH")
+                            .param("notState", "4")
+                            .param("sort", "state,desc", "name")
+                            .param("size", "4")
+                            .param("after", cursor)
+                            .with(user(owner)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            tasks.addAll(JsonPath.read(body, "$.items"));
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+
+        Integer expected = jdbcTemplate.queryForObject(
+                "select count(*) from tasks where todo_id = 1 and priority = 'HIGH' and state_id <> 4", Integer.class);
+        assertEquals(expected, tasks.size());
+        assertEquals(tasks.size(), new HashSet<>(tasks).size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals("HIGH", tasks.get(i).get("priority"));
+            assertNotEquals(4, tasks.get(i).get("stateId"));
+            if (i > 0) {
+                Map<String, Object> previous = tasks.get(i - 1);
+                Map<String, Object> current = tasks.get(i);
+                int byState = Integer.compare((Integer) current.get("stateId"), (Integer) previous.get("stateId"));
+                assertTrue(byState < 0 || byState == 0
+                        && ((String) previous.get("name")).compareTo((String) current.get("name")) <= 0);
+            }
+        }
+    }
+
+    @Test
+    public void sortedPageContinuesAfterItsLastTaskIsDeleted() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        for (String name : List.of("Cursor a", "Cursor b")) {
+            mockMvc.perform(post("/api/v1/todos/3/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"name\":\"" + name + "\",\"priority\":\"LOW\",\"stateId\":1}")
+                            .with(user(owner)))
+                    .andExpect(status().isCreated());
+        }
+        String body = mockMvc.perform(get("/api/v1/todos/3/tasks")
+                        .param("name", "Cursor ")
+                        .param("sort", "name")
+                        .param("size", "1")
+                        .with(user(owner)))
+                .andExpect(jsonPath("$.items[0].name").value("Cursor a"))
+                .andReturn().getResponse().getContentAsString();
+        Integer lastId = JsonPath.read(body, "$.items[0].id");
+        mockMvc.perform(delete("/api/v1/todos/3/tasks/" + lastId).with(user(owner)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/todos/3/tasks")
+                        .param("name", "Cursor ")
+                        .param("sort", "name")
+                        .param("size", "1")
+                        .param("after", JsonPath.<String>read(body, "$.nextCursor"))
+                        .with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Cursor b"));
+        mockMvc.perform(get("/api/v1/todos/3/tasks")
+                        .param("sort", "name")
+                        .param("after", "not-a-cursor")
+                        .with(user(owner)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    public void statsFollowTaskChanges() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        String body = mockMvc.perform(post("/api/v1/todos/3/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Counted task\",\"priority\":\"LOW\",\"stateId\":1}")
+                        .with(user(owner)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer taskId = JsonPath.read(body, "$.id");
+        assertStatsMatchTasks(owner, 3);
+
+        mockMvc.perform(put("/api/v1/todos/3/tasks/" + taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Counted task\",\"priority\":\"HIGH\",\"stateId\":4,\"version\":0}")
+                        .with(user(owner)))
+                .andExpect(status().isOk());
+        assertStatsMatchTasks(owner, 3);
+
+        mockMvc.perform(delete("/api/v1/todos/3/tasks/" + taskId).with(user(owner)))
+                .andExpect(status().isNoContent());
+        assertStatsMatchTasks(owner, 3);
+    }
+
+    @Test
+    public void counterInsertLosingARaceYieldsToTheExistingRow() {
+        Map<String, Object> counter = jdbcTemplate.queryForMap(
+                "select todo_id, state_id, priority, task_count from task_counters order by todo_id limit 1");
+        long todoId = ((Number) counter.get("todo_id")).longValue();
+        long stateId = ((Number) counter.get("state_id")).longValue();
+        String priority = (String) counter.get("priority");
+
+        int inserted = new TransactionTemplate(transactionManager).execute(
+                status -> taskRepository.insertCounter(todoId, stateId, priority, 1));
+
+        assertEquals(0, inserted);
+        assertEquals(counter.get("task_count"), jdbcTemplate.queryForObject("select task_count from task_counters"
+                + " where todo_id = ? and state_id = ? and priority = ?", Long.class, todoId, stateId, priority));
+    }
+
+    @Test
+    public void committedMutationsAreAudited() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        String body = mockMvc.perform(post("/api/v1/todos/3/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Audited task\",\"priority\":\"MEDIUM\",\"stateId\":1}")
+                        .with(user(owner)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer taskId = JsonPath.read(body, "$.id");
+        mockMvc.perform(put("/api/v1/todos/3/tasks/" + taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Audited task\",\"priority\":\"MEDIUM\",\"stateId\":1,\"version\":99}")
+                        .with(user(owner)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(delete("/api/v1/todos/3/tasks/" + taskId).with(user(owner)))
+                .andExpect(status().isNoContent());
+        auditLog.flush();
+
+        List<String> actions = jdbcTemplate.queryForList("select action from audit_log where entity = 'task'"
+                + " and entity_id = ? and todo_id = 3 and actor_id = 1 order by id", String.class, taskId);
+        assertEquals(List.of("CREATE", "DELETE"), actions);
+    }
+
+    @Test
+    public void rejectedAuditBatchIsCountedAsDroppedAndWritingGoesOn() {
+        double dropped = meterRegistry.counter("todolist.audit.dropped").count();
+        auditLog.record(AuditEvent.Action.CREATE, "x".repeat(100), -1, null);
+        auditLog.flush();
+        assertEquals(dropped + 1, meterRegistry.counter("todolist.audit.dropped").count());
+
+        auditLog.record(AuditEvent.Action.CREATE, AuditLog.TASK, -2, null);
+        auditLog.flush();
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from audit_log where entity = 'task' and entity_id = -2", Integer.class));
+    }
+
+    @Test
+    public void repeatedLookupsComeFromTheSecondLevelCacheUntilChanged() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        String title = jdbcTemplate.queryForObject("select title from todos where id = 2", String.class);
+        mockMvc.perform(get("/api/v1/todos/2").with(user(owner)))
+                .andExpect(status().isOk());
+        double hits = secondLevelCacheRequests("todos", "hit");
+        mockMvc.perform(get("/api/v1/todos/2").with(user(owner)))
+                .andExpect(jsonPath("$.title").value(title));
+        assertTrue(secondLevelCacheRequests("todos", "hit") > hits);
+
+        try {
+            mockMvc.perform(put("/api/v1/todos/2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"Mike's cached To-Do\",\"version\":" + todoVersion(2) + "}")
+                            .with(user(owner)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/todos/2").with(user(owner)))
+                    .andExpect(jsonPath("$.title").value("Mike's cached To-Do"));
+        } finally {
+            mockMvc.perform(put("/api/v1/todos/2")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"title\":\"" + title + "\",\"version\":" + todoVersion(2) + "}")
+                            .with(user(owner)))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private long todoVersion(long todoId) {
+        return jdbcTemplate.queryForObject("select version from todos where id = ?", Long.class, todoId);
+    }
+
+    private void assertStatsMatchTasks(UserDetails owner, long todoId) throws Exception {
+        String todoStats = mockMvc.perform(get("/api/v1/todos/" + todoId + "/stats").with(user(owner)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(jdbcTemplate.queryForObject("select count(*) from tasks where todo_id = ?", Integer.class, todoId),
+                JsonPath.<Integer>read(todoStats, "$.total"));
+        for (String priority : List.of("LOW", "MEDIUM", "HIGH")) {
+            assertEquals(jdbcTemplate.queryForObject("select count(*) from tasks where todo_id = ? and priority = ?",
+                    Integer.class, todoId, priority), JsonPath.<Integer>read(todoStats, "$.byPriority." + priority));
+        }
+        for (String state : List.of("New", "Doing", "Verify", "Done")) {
+            assertEquals(jdbcTemplate.queryForObject("select count(*) from tasks t join states s on s.id = t.state_id"
+                    + " where t.todo_id = ? and s.name = ?", Integer.class, todoId, state),
+                    JsonPath.<Integer>read(todoStats, "$.byState." + state));
+        }
+
+        String userStats = mockMvc.perform(get("/api/v1/users/1/stats").with(user(owner)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(jdbcTemplate.queryForObject("select count(*) from tasks t join todos d on d.id = t.todo_id"
+                + " where d.owner_id = 1", Integer.class), JsonPath.<Integer>read(userStats, "$.total"));
+    }
+
+    private int collaboratorRows(long todoId, long userId) {
+        return jdbcTemplate.queryForObject("select count(*) from todo_collaborator where todo_id = ? and collaborator_id = ?",
+                Integer.class, todoId, userId);
+    }
+
+    private double secondLevelCacheRequests(String region, String result) {
+        return meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", region)
+                .tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,113 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.config.DbAdmission;
+import com.softserve.todolistmanager.config.VirtualThreads;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.servlet.Filter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todolist.execution.virtual-threads=true",
+        "todolist.execution.db-permits=1",
+        "todolist.execution.db-admission-timeout=PT0.1S"
+})
+@AutoConfigureMockMvc
+public class ExecutionModeTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private DbAdmission admission;
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void virtualThreadsAreUsedWhereTheJvmHasThem() throws Exception {
+        boolean available = Runtime.version().feature() >= 21;
+        assertEquals(available, VirtualThreads.newPerTaskExecutor().isPresent());
+
+        RequestThread.last.set(null);
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/form-login", String.class).getStatusCode());
+        Thread thread = RequestThread.last.get();
+        assertEquals(available, isVirtual(thread), thread.toString());
+        if (!available) {
+            assertTrue(thread.getName().contains("-exec-"), thread.getName());
+        }
+    }
+
+    @Test
+    public void requestsBeyondTheConnectionPoolAreTurnedAway() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        assertEquals(1, admission.getSize());
+        assertTrue(admission.tryEnter(1, TimeUnit.SECONDS));
+        try {
+            mockMvc.perform(get("/api/v1/todos/1").with(user(owner)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            admission.exit();
+        }
+        mockMvc.perform(get("/api/v1/todos/1").with(user(owner)))
+                .andExpect(status().isOk());
+        assertEquals(0, admission.getInUse());
+    }
+
+    @Test
+    public void loginFormAndEventStreamsNeedNoPermit() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        assertTrue(admission.tryEnter(1, TimeUnit.SECONDS));
+        try {
+            mockMvc.perform(get("/form-login"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/todos/1/events").with(user(owner)))
+                    .andExpect(request().asyncStarted());
+        } finally {
+            admission.exit();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // remembers the thread the servlet container ran the last request on
+    @TestConfiguration
+    static class RequestThread {
+        static final AtomicReference<Thread> last = new AtomicReference<>();
+
+        @Bean
+        public Filter requestThreadFilter() {
+            return (request, response, chain) -> {
+                last.set(Thread.currentThread());
+                chain.doFilter(request, response);
+            };
+        }
+    }
+}
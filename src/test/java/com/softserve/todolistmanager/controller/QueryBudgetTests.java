@@ -0,0 +1,149 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.dto.KeysetCursor;
+import com.softserve.todolistmanager.metrics.QueryCountFilter;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Drives the controller endpoints against the scaled H2 seed (the db/migration demo data plus db/scaled) and fails
+ * when a request executes more SQL statements or allocates more memory than its budget, so that N+1
+ * selects through the eager mappings show up here rather than in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class QueryBudgetTests {
+    private static final String ADMIN = "mike@mail.com";
+    private static final String USER = "nick@mail.com";
+    private static final long MAX_ALLOCATED_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> readEndpoints() {
+        return Stream.of(
+                Arguments.of(ADMIN, "/home", 2),
+                Arguments.of(USER, "/home", 2),
+                Arguments.of(ADMIN, "/users/all", 1),
+                Arguments.of(ADMIN, "/users/create", 0),
+                Arguments.of(ADMIN, "/users/1/read", 1),
+                Arguments.of(USER, "/users/2/read", 1),
+                Arguments.of(ADMIN, "/users/2/update", 1),
+                Arguments.of(ADMIN, "/todos/all/users/1", 3),
+                Arguments.of(USER, "/todos/all/users/2", 3),
+                Arguments.of(ADMIN, "/todos/1/tasks", 4),
+                Arguments.of(USER, "/todos/1/tasks", 5),
+                Arguments.of(ADMIN, "/todos/create/users/1", 0),
+                Arguments.of(ADMIN, "/todos/1/update/users/1", 1),
+                Arguments.of(ADMIN, "/tasks/create/todos/1", 1),
+                Arguments.of(ADMIN, "/tasks/1/update/todos/1", 1),
+                Arguments.of(ADMIN, "/api/v1/users", 1),
+                Arguments.of(USER, "/api/v1/users/2/todos", 2),
+                Arguments.of(ADMIN, "/api/v1/todos/1", 1),
+                Arguments.of(USER, "/api/v1/todos/1/collaborators", 2),
+                Arguments.of(USER, "/api/v1/todos/1/tasks", 3),
+                Arguments.of(ADMIN, "/api/v1/todos/1/tasks/1", 1),
+                Arguments.of(USER, "/api/v1/states", 0),
+                Arguments.of(USER, "/search?q=task", 1),
+                Arguments.of(ADMIN, "/todos/1/tasks?priority=HIGH&notState=4&sort=priority,desc", 4),
+                Arguments.of(USER, "/api/v1/todos/1/tasks?state=1&sort=name&after=" + KeysetCursor.of("Task", 1003), 2),
+                Arguments.of(ADMIN, "/api/v1/search?q=mike", 0)
+        );
+    }
+
+    @ParameterizedTest(name = "{0} GET {1}")
+    @MethodSource("readEndpoints")
+    public void readEndpointStaysWithinBudget(String email, String url, int queryBudget) throws Exception {
+        assertWithinBudget(get(url), email, queryBudget);
+    }
+
+    @Test
+    public void taskLifecycleStaysWithinBudget() throws Exception {
+        assertWithinBudget(post("/tasks/create/todos/2")
+                .param("name", "Budget task")
+                .param("priority", "LOW")
+                .param("todoId", "2")
+                .param("stateId", "1"), ADMIN, 6);
+        Long taskId = jdbcTemplate.queryForObject(
+                "select max(id) from tasks where todo_id = 2 and name = 'Budget task'", Long.class);
+
+        assertWithinBudget(post("/tasks/" + taskId + "/update/todos/2")
+                .param("id", String.valueOf(taskId))
+                .param("name", "Budget task")
+                .param("priority", "HIGH")
+                .param("todoId", "2")
+                .param("stateId", "2")
+                .param("version", "0"), ADMIN, 8);
+        assertWithinBudget(post("/tasks/create-all/todos/2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Bulk #1\",\"priority\":\"LOW\",\"todoId\":2,\"stateId\":1},"
+                        + "{\"name\":\"Bulk #2\",\"priority\":\"LOW\",\"todoId\":2,\"stateId\":1}]"), ADMIN, 5);
+        assertWithinBudget(get("/tasks/" + taskId + "/delete/todos/2"), ADMIN, 4);
+    }
+
+    @Test
+    public void collaboratorChangesStayWithinBudget() throws Exception {
+        assertWithinBudget(get("/todos/2/add").param("user_id", "1001"), ADMIN, 4);
+        assertWithinBudget(get("/todos/2/add").param("user_id", "1001"), ADMIN, 3);
+        assertWithinBudget(get("/todos/2/remove").param("user_id", "1001"), ADMIN, 3);
+    }
+
+    @Test
+    public void todoLifecycleStaysWithinBudget() throws Exception {
+        assertWithinBudget(post("/todos/create/users/2")
+                .param("title", "Nick's budget To-Do"), USER, 4);
+        Long todoId = jdbcTemplate.queryForObject(
+                "select id from todos where title = 'Nick''s budget To-Do'", Long.class);
+
+        assertWithinBudget(post("/todos/" + todoId + "/update/users/2")
+                .param("id", String.valueOf(todoId))
+                .param("title", "Nick's renamed budget To-Do"), USER, 4);
+        assertWithinBudget(get("/todos/" + todoId + "/delete/users/2"), USER, 5);
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request, String email, int queryBudget)
+            throws Exception {
+        RequestBuilder authenticated = request.with(user(userDetailsService.loadUserByUsername(email)));
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        MvcResult result = mockMvc.perform(authenticated).andReturn();
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        String endpoint = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        int status = result.getResponse().getStatus();
+        assertTrue(status < 400, endpoint + " answered " + status);
+
+        int queries = (Integer) result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT_ATTRIBUTE);
+        assertTrue(queries <= queryBudget,
+                String.format("%s executed %d queries, budget is %d", endpoint, queries, queryBudget));
+        assertTrue(allocated <= MAX_ALLOCATED_BYTES,
+                String.format("%s allocated %d bytes, budget is %d", endpoint, allocated, MAX_ALLOCATED_BYTES));
+    }
+}
@@ -0,0 +1,121 @@
+package com.softserve.todolistmanager.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SearchControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void hitsAreLimitedToVisibleTodos() throws Exception {
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", "nora")
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.type == 'todo')].id", hasItem(6)))
+                .andExpect(jsonPath("$.items[?(@.type == 'todo')].id", not(hasItem(7))));
+    }
+
+    @Test
+    public void indexFollowsTaskChanges() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("mike@mail.com");
+        String created = mockMvc.perform(post("/api/v1/todos/2/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Quarterly zebra report\",\"priority\":\"LOW\"}")
+                        .with(user(owner)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        int taskId = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(get("/api/v1/search").param("q", "quarterly zeb").with(user(owner)))
+                .andExpect(jsonPath("$.items[0].id").value(taskId))
+                .andExpect(jsonPath("$.items[0].type").value("task"))
+                .andExpect(jsonPath("$.items[0].todoId").value(2));
+
+        mockMvc.perform(delete("/api/v1/todos/2/tasks/" + taskId).with(user(owner)))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/search").param("q", "zebra").with(user(owner)))
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    public void nextPageNeitherRepeatsNorSkipsWhenABetterHitBecomesVisible() throws Exception {
+        UserDetails nick = userDetailsService.loadUserByUsername("nick@mail.com");
+        UserDetails nora = userDetailsService.loadUserByUsername("nora@mail.com");
+        int best = createTask(nick, 5, "Zanzibar");
+        int first = createTask(nora, 7, "Zanzibar memo");
+        int second = createTask(nora, 7, "Zanzibar memo draft");
+
+        String body = mockMvc.perform(get("/api/v1/search").param("q", "zanzibar").param("size", "1").with(user(nora)))
+                .andExpect(jsonPath("$.items[0].id").value(first))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(put("/api/v1/todos/5/collaborators/3").with(user(nick)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", "zanzibar")
+                        .param("size", "1")
+                        .param("after", JsonPath.<String>read(body, "$.nextCursor"))
+                        .with(user(nora)))
+                .andExpect(jsonPath("$.items[0].id").value(second));
+
+        mockMvc.perform(delete("/api/v1/todos/5/collaborators/3").with(user(nick)));
+        mockMvc.perform(delete("/api/v1/todos/5/tasks/" + best).with(user(nick)));
+        mockMvc.perform(delete("/api/v1/todos/7/tasks/" + first).with(user(nora)));
+        mockMvc.perform(delete("/api/v1/todos/7/tasks/" + second).with(user(nora)));
+    }
+
+    @Test
+    public void failedUserDeleteLeavesTheIndexAlone() throws Exception {
+        String title = jdbcTemplate.queryForObject("select title from todos where id = 4", String.class);
+
+        // Nick still collaborates on todos 1 and 6, so removing him breaks a foreign key at commit
+        mockMvc.perform(get("/users/2/delete")
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(status().isInternalServerError());
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from todos where owner_id = 2", Integer.class));
+
+        mockMvc.perform(get("/api/v1/search")
+                        .param("q", title)
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.type == 'todo')].id", hasItem(4)));
+    }
+
+    private int createTask(UserDetails owner, long todoId, String name) throws Exception {
+        String created = mockMvc.perform(post("/api/v1/todos/" + todoId + "/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\",\"priority\":\"LOW\"}")
+                        .with(user(owner)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(created, "$.id");
+    }
+}
@@ -0,0 +1,202 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.events.ToDoEvent;
+import com.softserve.todolistmanager.events.ToDoEventHub;
+import com.softserve.todolistmanager.metrics.QueryCountFilter;
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ToDoControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private HikariDataSource dataSource;
+    @Autowired
+    private ToDoEventHub eventHub;
+
+    @Test
+    public void unchangedTodoPageAnswersNotModifiedAfterOneQuery() throws Exception {
+        UserDetails admin = userDetailsService.loadUserByUsername("mike@mail.com");
+        String etag = mockMvc.perform(get("/todos/3/tasks").with(user(admin)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get("/todos/3/tasks")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(admin)))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertEquals(1, result.getRequest().getAttribute(QueryCountFilter.QUERY_COUNT_ATTRIBUTE));
+    }
+
+    @Test
+    public void userChangeOnAnotherInstanceInvalidatesTodoPage() throws Exception {
+        UserDetails admin = userDetailsService.loadUserByUsername("mike@mail.com");
+        String etag = mockMvc.perform(get("/todos/2/tasks").with(user(admin)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // what UserDirectoryRevision.touch() leaves behind, without going through this instance
+        jdbcTemplate.update("update user_directory_revision set revision = revision + 1");
+
+        mockMvc.perform(get("/todos/2/tasks")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(admin)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void taskChangeInvalidatesTodoAndListPages() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("nora@mail.com");
+        String todoEtag = mockMvc.perform(get("/todos/7/tasks").with(user(owner)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String listEtag = mockMvc.perform(get("/todos/all/users/3").with(user(owner)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(post("/tasks/create/todos/7")
+                        .param("name", "Conditional task")
+                        .param("priority", "LOW")
+                        .param("todoId", "7")
+                        .param("stateId", "1")
+                        .with(user(owner)))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/todos/7/tasks")
+                        .header(HttpHeaders.IF_NONE_MATCH, todoEtag)
+                        .with(user(owner)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos/all/users/3")
+                        .header(HttpHeaders.IF_NONE_MATCH, listEtag)
+                        .with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void replacingTodoInvalidatesListPage() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("nick@mail.com");
+        mockMvc.perform(post("/todos/create/users/2")
+                        .param("title", "Nick's short-lived To-Do")
+                        .with(user(owner)))
+                .andExpect(status().is3xxRedirection());
+        Long created = jdbcTemplate.queryForObject("select max(id) from todos where owner_id = 2", Long.class);
+        String etag = mockMvc.perform(get("/todos/all/users/2").with(user(owner)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/todos/" + created + "/delete/users/2").with(user(owner)))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/todos/create/users/2")
+                        .param("title", "Nick's replacement To-Do")
+                        .with(user(owner)))
+                .andExpect(status().is3xxRedirection());
+
+        mockMvc.perform(get("/todos/all/users/2")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .with(user(owner)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void staleTodoFormAnswersConflict() throws Exception {
+        UserDetails owner = userDetailsService.loadUserByUsername("nora@mail.com");
+        String version = jdbcTemplate.queryForObject("select version from todos where id = 6", String.class);
+
+        mockMvc.perform(post("/todos/6/update/users/3")
+                        .param("id", "6")
+                        .param("title", "Nora's first rename")
+                        .param("version", version)
+                        .with(user(owner)))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/todos/6/update/users/3")
+                        .param("id", "6")
+                        .param("title", "Nora's second rename")
+                        .param("version", version)
+                        .with(user(owner)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void collaboratorIsPushedTaskChangesWithoutHoldingAConnection() throws Exception {
+        int activeConnections = dataSource.getHikariPoolMXBean().getActiveConnections();
+        MvcResult stream = mockMvc.perform(get("/todos/4/events")
+                        .with(user(userDetailsService.loadUserByUsername("nora@mail.com"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, eventHub.getSubscriberCount(4));
+        assertEquals(activeConnections, dataSource.getHikariPoolMXBean().getActiveConnections());
+
+        mockMvc.perform(post("/tasks/create/todos/4")
+                        .param("name", "Pushed task")
+                        .param("priority", "LOW")
+                        .param("todoId", "4")
+                        .param("stateId", "1")
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(status().is3xxRedirection());
+        Long taskId = jdbcTemplate.queryForObject(
+                "select max(id) from tasks where todo_id = 4 and name = 'Pushed task'", Long.class);
+
+        String expected = "\"type\":\"task-created\",\"todoId\":4,\"entityId\":" + taskId;
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getResponse().getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String content = stream.getResponse().getContentAsString();
+        assertTrue(content.contains("event:change"), content);
+        assertTrue(content.contains(expected), content);
+
+        eventHub.close(4);
+        assertEquals(0, eventHub.getSubscriberCount(4));
+    }
+
+    @Test
+    public void everySubscriberReceivesTheSameEvent() throws Exception {
+        MvcResult ownerStream = mockMvc.perform(get("/todos/1/events")
+                        .with(user(userDetailsService.loadUserByUsername("mike@mail.com"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult collaboratorStream = mockMvc.perform(get("/todos/1/events")
+                        .with(user(userDetailsService.loadUserByUsername("nick@mail.com"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(2, eventHub.getSubscriberCount(1));
+
+        eventHub.publish(ToDoEvent.TODO_UPDATED, 1, 1);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!(ownerStream.getResponse().getContentAsString().endsWith("\n\n")
+                && collaboratorStream.getResponse().getContentAsString().endsWith("\n\n"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String content = ownerStream.getResponse().getContentAsString();
+        assertTrue(content.matches("id:\\d+\nevent:change\ndata:\\{.*\"type\":\"todo-updated\".*}\n\n"), content);
+        assertEquals(content, collaboratorStream.getResponse().getContentAsString());
+
+        eventHub.close(1);
+        assertEquals(0, eventHub.getSubscriberCount(1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.model.User;
+import com.softserve.todolistmanager.security.TokenSecurityContextRepository;
+import com.softserve.todolistmanager.service.ToDoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.http.Cookie;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "todolist.security.session-mode=token",
+        "todolist.security.token.secret=token-mode-test-secret"
+})
+@AutoConfigureMockMvc
+public class TokenSessionModeTests {
+    private static final String EMAIL = "scaled39@mail.com";
+    private static final String PASSWORD = "token-mode";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private ToDoService toDoService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setPassword() {
+        jdbcTemplate.update("update users set password = ? where email = ?", passwordEncoder.encode(PASSWORD), EMAIL);
+    }
+
+    @Test
+    public void loginIssuesATokenThatAuthenticatesWithoutASession() throws Exception {
+        MvcResult login = mockMvc.perform(formLogin("/login").user(EMAIL).password(PASSWORD))
+                .andExpect(redirectedUrl("/home"))
+                .andReturn();
+        Cookie token = login.getResponse().getCookie(TokenSecurityContextRepository.COOKIE_NAME);
+        assertNotNull(token);
+        assertNull(login.getRequest().getSession(false));
+
+        MvcResult home = mockMvc.perform(get("/home").cookie(token))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNull(home.getRequest().getSession(false));
+        assertNull(home.getResponse().getCookie(TokenSecurityContextRepository.COOKIE_NAME));
+
+        MvcResult logout = mockMvc.perform(post("/logout").cookie(token).accept(MediaType.TEXT_HTML))
+                .andExpect(redirectedUrl("/form-login"))
+                .andReturn();
+        assertEquals(0, logout.getResponse().getCookie(TokenSecurityContextRepository.COOKIE_NAME).getMaxAge());
+    }
+
+    @Test
+    public void tamperedTokenIsRejected() throws Exception {
+        Cookie token = mockMvc.perform(formLogin("/login").user(EMAIL).password(PASSWORD))
+                .andReturn().getResponse().getCookie(TokenSecurityContextRepository.COOKIE_NAME);
+        assertNotNull(token);
+        String[] parts = token.getValue().split("\\.");
+        String claims = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+        assertTrue(claims.contains("\"role\":\"USER\""));
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                claims.replace("\"role\":\"USER\"", "\"role\":\"ADMIN\"").getBytes(StandardCharsets.UTF_8));
+        Cookie tampered = new Cookie(TokenSecurityContextRepository.COOKIE_NAME, forged + '.' + parts[1]);
+
+        mockMvc.perform(get("/home").cookie(tampered).accept(MediaType.TEXT_HTML))
+                .andExpect(redirectedUrlPattern("**/form-login"));
+        mockMvc.perform(get("/api/v1/states").cookie(tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void versionedEntitiesAreNotCachedPerInstance() {
+        ToDo todo = toDoService.readById(1);
+
+        assertFalse(entityManagerFactory.getCache().contains(ToDo.class, todo.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(User.class, todo.getOwner().getId()));
+        assertTrue(entityManagerFactory.getCache().contains(State.class, 1L));
+    }
+}
@@ -0,0 +1,109 @@
+package com.softserve.todolistmanager.controller;
+
+import com.softserve.todolistmanager.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    public void profileEditWithoutNewPasswordKeepsTheHash() throws Exception {
+        String hash = password(1038);
+        mockMvc.perform(post("/users/1038/update")
+                        .param("id", "1038")
+                        .param("firstName", "Scaled")
+                        .param("lastName", "Renamed")
+                        .param("email", "scaled38@mail.com")
+                        .param("password", "")
+                        .param("version", String.valueOf(version(1038)))
+                        .param("roleId", "2")
+                        .with(user(userDetailsService.loadUserByUsername("scaled38@mail.com"))))
+                .andExpect(redirectedUrl("/users/1038/read"));
+        assertEquals(hash, password(1038));
+
+        mockMvc.perform(post("/users/1038/update")
+                        .param("id", "1038")
+                        .param("firstName", "Scaled")
+                        .param("lastName", "Renamed")
+                        .param("email", "scaled38@mail.com")
+                        .param("password", "changed-password")
+                        .param("version", String.valueOf(version(1038)))
+                        .param("roleId", "2")
+                        .with(user(userDetailsService.loadUserByUsername("scaled38@mail.com"))))
+                .andExpect(redirectedUrl("/users/1038/read"));
+        assertNotEquals(hash, password(1038));
+        assertTrue(passwordEncoder.matches("changed-password", password(1038)));
+    }
+
+    @Test
+    public void profileFormNeverCarriesTheStoredHash() throws Exception {
+        String hash = password(1036);
+        String form = mockMvc.perform(get("/users/1036/update")
+                        .with(user(userDetailsService.loadUserByUsername("scaled36@mail.com"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertFalse(form.contains(hash));
+
+        mockMvc.perform(post("/users/1036/update")
+                        .param("id", "1036")
+                        .param("firstName", "Scaled")
+                        .param("lastName", "Hashed")
+                        .param("email", "scaled36@mail.com")
+                        .param("password", hash)
+                        .param("version", String.valueOf(version(1036)))
+                        .param("roleId", "2")
+                        .with(user(userDetailsService.loadUserByUsername("scaled36@mail.com"))))
+                .andExpect(redirectedUrl("/users/1036/read"));
+        assertNotEquals(hash, password(1036));
+        assertTrue(passwordEncoder.matches(hash, password(1036)));
+    }
+
+    @Test
+    public void loginRehashesPasswordOfAnotherCost() throws Exception {
+        jdbcTemplate.update("update users set password = ? where id = 1037",
+                new BCryptPasswordEncoder(4).encode("cheap-password"));
+        userDetailsService.evict("scaled37@mail.com");
+
+        mockMvc.perform(get("/api/v1/states").with(httpBasic("scaled37@mail.com", "cheap-password")))
+                .andExpect(status().isOk());
+        String rehashed = password(1037);
+        assertTrue(rehashed.startsWith("$2a$10$"), rehashed);
+        assertTrue(passwordEncoder.matches("cheap-password", rehashed));
+    }
+
+    private String password(long userId) {
+        return jdbcTemplate.queryForObject("select password from users where id = ?", String.class, userId);
+    }
+
+    private long version(long userId) {
+        return jdbcTemplate.queryForObject("select version from users where id = ?", Long.class, userId);
+    }
+}
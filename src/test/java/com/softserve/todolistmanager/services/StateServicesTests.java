@@ -0,0 +1,57 @@
+package com.softserve.todolistmanager.services;
+
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.repository.StateRepository;
+import com.softserve.todolistmanager.service.impl.EntityCache;
+import com.softserve.todolistmanager.service.impl.StateServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StateServicesTests {
+    @Mock
+    private StateRepository stateRepositoryMock;
+    @Mock
+    private EntityCache entityCacheMock;
+    @InjectMocks
+    private StateServiceImpl stateService;
+
+    @BeforeEach
+    public void loadStates() {
+        State state = new State();
+        state.setName("New");
+        when(stateRepositoryMock.getAll()).thenReturn(List.of(state));
+        stateService.load();
+    }
+
+    @Test
+    public void unknownStateIsNotFoundWithoutReloading() {
+        EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () -> stateService.readById(20));
+        assertEquals("State with id '20' not found", thrown.getMessage());
+        assertThrows(EntityNotFoundException.class, () -> stateService.getByName("Unknown"));
+
+        verify(stateRepositoryMock, times(1)).getAll();
+    }
+
+    @Test
+    public void changingAReadStateLeavesTheSnapshotAlone() {
+        stateService.getByName("New").setName("Changed");
+        stateService.getAll().get(0).setName("Changed");
+
+        assertEquals("New", stateService.readById(0).getName());
+        assertEquals("New", stateService.getAll().get(0).getName());
+    }
+}
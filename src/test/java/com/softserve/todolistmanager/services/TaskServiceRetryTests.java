@@ -0,0 +1,106 @@
+package com.softserve.todolistmanager.services;
+
+import com.softserve.todolistmanager.audit.AuditEvent;
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.dto.TaskDto;
+import com.softserve.todolistmanager.events.ToDoEventHub;
+import com.softserve.todolistmanager.exception.NullEntityReferenceException;
+import com.softserve.todolistmanager.model.Priority;
+import com.softserve.todolistmanager.model.State;
+import com.softserve.todolistmanager.model.Task;
+import com.softserve.todolistmanager.model.ToDo;
+import com.softserve.todolistmanager.repository.TaskRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
+import com.softserve.todolistmanager.service.StateService;
+import com.softserve.todolistmanager.service.TaskService;
+import com.softserve.todolistmanager.service.ToDoService;
+import com.softserve.todolistmanager.service.impl.TaskServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+public class TaskServiceRetryTests {
+
+    @Configuration
+    @EnableRetry
+    @Import(TaskServiceImpl.class)
+    static class RetryConfig {
+    }
+
+    @MockBean
+    private TaskRepository taskRepositoryMock;
+    @MockBean
+    private StateService stateServiceMock;
+    @MockBean
+    private ToDoService toDoServiceMock;
+    @MockBean
+    private SearchIndex searchIndexMock;
+    @MockBean
+    private AuditLog auditLogMock;
+    @MockBean
+    private ToDoEventHub eventHubMock;
+    @Autowired
+    private TaskService taskService;
+
+    private Task task;
+
+    @BeforeEach
+    public void setUp() {
+        ToDo todo = new ToDo();
+        todo.setId(1);
+        task = new Task();
+        task.setId(7);
+        task.setName("Contended task");
+        task.setPriority(Priority.LOW);
+        task.setTodo(todo);
+        task.setState(new State());
+        when(taskRepositoryMock.findById(7L)).thenReturn(Optional.of(task));
+        when(toDoServiceMock.readById(1)).thenReturn(todo);
+        when(stateServiceMock.readById(1)).thenReturn(task.getState());
+    }
+
+    @Test
+    public void deleteRunsAgainAfterAConcurrentRevisionWrite() {
+        doThrow(new ObjectOptimisticLockingFailureException(ToDo.class, 1L)).doNothing().when(toDoServiceMock).touch(1);
+
+        taskService.delete(7);
+
+        verify(taskRepositoryMock, times(2)).delete(task);
+        verify(auditLogMock, times(1)).record(AuditEvent.Action.DELETE, AuditLog.TASK, 7, 1L);
+    }
+
+    @Test
+    public void staleUpdateIsNotRunAgain() {
+        when(taskRepositoryMock.save(any())).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 7L));
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> taskService.update(new TaskDto(7, "Stale task", "LOW", 1, 1, 0L)));
+
+        verify(taskRepositoryMock, times(1)).save(any());
+    }
+
+    @Test
+    public void updateWithoutVersionIsRejected() {
+        assertThrows(NullEntityReferenceException.class,
+                () -> taskService.update(new TaskDto(7, "Unversioned task", "LOW", 1, 1, null)));
+
+        verify(taskRepositoryMock, never()).save(any());
+    }
+}
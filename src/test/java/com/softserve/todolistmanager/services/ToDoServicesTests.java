@@ -1,18 +1,21 @@
 package com.softserve.todolistmanager.services;
 
+import com.softserve.todolistmanager.audit.AuditLog;
+import com.softserve.todolistmanager.events.ToDoEventHub;
 import com.softserve.todolistmanager.exception.NullEntityReferenceException;
 import com.softserve.todolistmanager.model.ToDo;
 import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.ToDoRepository;
+import com.softserve.todolistmanager.repository.ToDoRevisionRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
+import com.softserve.todolistmanager.service.impl.EntityCache;
 import com.softserve.todolistmanager.service.impl.ToDoServiceImpl;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import javax.persistence.EntityNotFoundException;
@@ -27,12 +30,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
 @SpringBootTest
 public class ToDoServicesTests {
 
     @Mock
     private ToDoRepository todoRepositoryMock;
+    @Mock
+    private ToDoRevisionRepository revisionRepositoryMock;
+    @Mock
+    private SearchIndex searchIndexMock;
+    @Mock
+    private AuditLog auditLogMock;
+    @Mock
+    private ToDoEventHub eventHubMock;
+    @Mock
+    private EntityCache entityCacheMock;
     @InjectMocks
     private ToDoServiceImpl todoServiceMock;
     private ToDo expected;
@@ -57,11 +69,11 @@ public class ToDoServicesTests {
 
     @Test
     public void testCreateToDoWithValidData() {
-        when(todoRepositoryMock.save(expected)).thenReturn(expected);
+        when(todoRepositoryMock.saveAndFlush(expected)).thenReturn(expected);
         ToDo actual = todoServiceMock.create(expected);
 
         assertEquals(expected, actual);
-        verify(todoRepositoryMock, times(1)).save(expected);
+        verify(todoRepositoryMock, times(1)).saveAndFlush(expected);
     }
 
     @Test
@@ -1,14 +1,16 @@
 package com.softserve.todolistmanager.services;
 
+import com.softserve.todolistmanager.audit.AuditLog;
 import com.softserve.todolistmanager.exception.NullEntityReferenceException;
 import com.softserve.todolistmanager.model.User;
 import com.softserve.todolistmanager.repository.UserRepository;
+import com.softserve.todolistmanager.search.SearchIndex;
+import com.softserve.todolistmanager.service.impl.EntityCache;
+import com.softserve.todolistmanager.service.impl.UserDirectoryRevision;
 import com.softserve.todolistmanager.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import javax.persistence.EntityNotFoundException;
@@ -22,10 +24,17 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
-@ExtendWith(MockitoExtension.class)
 public class UserServicesTests {
     @Mock
     private UserRepository userRepositoryMock;
+    @Mock
+    private UserDirectoryRevision directoryRevisionMock;
+    @Mock
+    private SearchIndex searchIndexMock;
+    @Mock
+    private AuditLog auditLogMock;
+    @Mock
+    private EntityCache entityCacheMock;
     @InjectMocks
     private UserServiceImpl userServiceMock;
 
@@ -64,7 +73,7 @@ public class UserServicesTests {
                 () -> userServiceMock.delete(id)
         );
         assertEquals(EntityNotFoundException.class, thrown.getClass());
-        assertEquals(thrown.getMessage(), "User with id " + id + " not found");
+        assertEquals(thrown.getMessage(), "User with id '" + id + "' not found");
     }
 
     @Test
@@ -77,7 +86,7 @@ public class UserServicesTests {
         );
 
         assertEquals(EntityNotFoundException.class, thrown.getClass());
-        assertEquals(thrown.getMessage(), "User with id " + id + " not found");
+        assertEquals(thrown.getMessage(), "User with id '" + id + "' not found");
     }
 
     @Test
@@ -1,10 +1,3 @@
-DROP TABLE IF EXISTS roles CASCADE;
-DROP TABLE IF EXISTS states CASCADE;
-DROP TABLE IF EXISTS tasks;
-DROP TABLE IF EXISTS todo_collaborator;
-DROP TABLE IF EXISTS todos;
-DROP TABLE IF EXISTS users;
-
 CREATE TABLE IF NOT EXISTS roles (
     id bigint generated by default as identity,
     name varchar(255),
@@ -0,0 +1,35 @@
+INSERT INTO users (id, first_name, last_name, email, password, role_id)
+SELECT 1000 + x, 'Scaled', 'User #' || x, 'scaled' || x || '@mail.com', u.password, 2
+FROM SYSTEM_RANGE(1, 40) AS r(x), users u WHERE u.id = 2;
+
+INSERT INTO todos (id, title, created_at, owner_id)
+SELECT 1000 + x, 'Mike''s Scaled To-Do #' || x, '2020-09-16 15:00:00', 1 FROM SYSTEM_RANGE(1, 40) AS r(x);
+INSERT INTO todos (id, title, created_at, owner_id)
+SELECT 2000 + x, 'Scaled To-Do #' || x, '2020-09-16 15:00:00', 1000 + x FROM SYSTEM_RANGE(1, 40) AS r(x);
+
+INSERT INTO todo_collaborator (todo_id, collaborator_id)
+SELECT 1, 1000 + x FROM SYSTEM_RANGE(1, 40) AS r(x);
+INSERT INTO todo_collaborator (todo_id, collaborator_id)
+SELECT 2000 + x, 1 FROM SYSTEM_RANGE(1, 40) AS r(x);
+INSERT INTO todo_collaborator (todo_id, collaborator_id)
+SELECT 1000 + x, 1000 + x FROM SYSTEM_RANGE(1, 40) AS r(x);
+
+INSERT INTO tasks (id, name, priority, todo_id, state_id)
+SELECT 1000 + x, 'Scaled Task #' || x, CASE MOD(x, 3) WHEN 0 THEN 'HIGH' WHEN 1 THEN 'LOW' ELSE 'MEDIUM' END,
+       1, 1 + MOD(x, 4)
+FROM SYSTEM_RANGE(1, 45) AS r(x);
+INSERT INTO tasks (id, name, priority, todo_id, state_id)
+SELECT 2000 + x, 'Scaled Task #' || x, 'MEDIUM', 1000 + MOD(x, 40) + 1, 1 + MOD(x, 4)
+FROM SYSTEM_RANGE(1, 400) AS r(x);
+
+INSERT INTO todo_revisions (todo_id, revision, modified_at)
+SELECT id, nextval('todo_revision_seq'), created_at FROM todos WHERE id >= 1000;
+
+UPDATE tasks SET priority_rank = CASE priority WHEN 'MEDIUM' THEN 1 WHEN 'HIGH' THEN 2 ELSE 0 END WHERE id >= 1000;
+
+DELETE FROM task_counters;
+INSERT INTO task_counters (todo_id, owner_id, state_id, priority, task_count)
+SELECT t.todo_id, d.owner_id, t.state_id, t.priority, count(*)
+FROM tasks t INNER JOIN todos d ON d.id = t.todo_id
+WHERE t.priority IS NOT NULL
+GROUP BY t.todo_id, d.owner_id, t.state_id, t.priority;